@@ -69,6 +69,18 @@ public class DrawView extends View {
   }
 
   public void drawPoint(float time, float duration, float y) {
+    addPoint(time, duration, y);
+    invalidate();
+  }
+
+  public void drawPoints(float[] times, float[] values, int count, float duration, float offset) {
+    for (int i = 0; i < count; i++) {
+      addPoint(times[i], duration, values[i] + offset);
+    }
+    invalidate();
+  }
+
+  private void addPoint(float time, float duration, float y) {
     float p = time / duration;
     float x = p * getWidth();
     float z = getHeight() + y;
@@ -77,7 +89,6 @@ public class DrawView extends View {
       start = true;
     }
     path.lineTo(x, z);
-    invalidate();
   }
 
   public void clear() {
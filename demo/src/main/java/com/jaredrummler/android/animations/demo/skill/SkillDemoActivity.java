@@ -28,6 +28,7 @@ import android.view.View;
 import android.widget.AdapterView;
 import android.widget.ListView;
 
+import com.jaredrummler.android.animations.BatchingEasingListener;
 import com.jaredrummler.android.animations.Skill;
 import com.jaredrummler.android.animations.demo.R;
 
@@ -57,13 +58,15 @@ public class SkillDemoActivity extends AppCompatActivity {
         AnimatorSet set = new AnimatorSet();
         targetView.setTranslationX(0);
         targetView.setTranslationY(0);
+        final float offset = -dp2px(getApplicationContext(), 60);
         set.playTogether(skill.glide(1200, ObjectAnimator.ofFloat(targetView, "translationY", 0, endValue),
-            new Skill.EasingMethod.EasingListener() {
+            new BatchingEasingListener(new BatchingEasingListener.Callback() {
 
-              @Override public void on(float time, float value, float start, float end, float duration) {
-                drawView.drawPoint(time, duration, value - dp2px(getApplicationContext(), 60));
+              @Override public void onSamples(float[] times, float[] values, int count,
+                  float start, float change, float duration) {
+                drawView.drawPoints(times, values, count, duration, offset);
               }
-            })
+            }))
         );
         set.setDuration(1200);
         set.start();
@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.os.Looper;
+import android.os.MessageQueue;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>A bounded pool of animators for each {@link Technique} and {@link TechniqueSpec}. When pooling is enabled, {@link
+ * Technique#playOn(android.view.View)} and {@link Technique#getComposer()} take an animator from the pool instead of
+ * allocating a new {@link Technique.SimpleAnimator}, {@link android.animation.AnimatorSet} and {@link
+ * android.animation.ObjectAnimator}s. The animator goes back to the pool when its animation ends or is cancelled.</p>
+ *
+ * <p>Pooling is off by default. Each run of a pooled animator gets a new {@link Technique.Composer} and {@link
+ * Technique.Controller}. Once the animation ends or is cancelled they go stale: the controller reports that nothing is
+ * running and ignores {@link Technique.Controller#stop(boolean)}, and the composer ignores {@link
+ * Technique.Composer#playOn(android.view.View)} and new listeners, so a handle that was kept can not touch the
+ * animator after it was reused. The two handles are still allocated per run; the composer's list of callbacks is
+ * kept with the animator and reused. Animations that follow a path are not pooled.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * AnimatorPool.setMaxSize(8);
+ * AnimatorPool.prewarm(Technique.FADE_IN, 8);
+ *
+ * // later, for example in onBindViewHolder:
+ * Technique.FADE_IN.playOn(holder.itemView);
+ *
+ * Log.d(TAG, "pool hits: " + AnimatorPool.getHitCount() + ", misses: " + AnimatorPool.getMissCount());
+ * </pre>
+ */
+public final class AnimatorPool {
+
+  private static final Map<TechniqueSpec, ArrayDeque<TechniqueSpec.SpecAnimator>> POOLS = new HashMap<>();
+
+  private static int maxSize;
+  private static long hits;
+  private static long misses;
+
+  private AnimatorPool() {
+    throw new AssertionError("no instances");
+  }
+
+  /**
+   * Set how many idle animators are kept for each technique. Set to 0 to disable pooling and clear the pools.
+   *
+   * @param size
+   *     the maximum number of idle animators per technique
+   */
+  public static synchronized void setMaxSize(int size) {
+    if (size < 0) {
+      throw new IllegalArgumentException("size must not be negative, was " + size);
+    }
+    maxSize = size;
+    for (ArrayDeque<TechniqueSpec.SpecAnimator> pool : POOLS.values()) {
+      while (pool.size() > size) {
+        pool.pop();
+      }
+    }
+  }
+
+  /**
+   * @return the maximum number of idle animators kept for each technique, or 0 if pooling is disabled.
+   */
+  public static synchronized int getMaxSize() {
+    return maxSize;
+  }
+
+  /**
+   * @return {@code true} if pooling is enabled.
+   */
+  public static synchronized boolean isEnabled() {
+    return maxSize > 0;
+  }
+
+  /**
+   * Fill the pool of a technique while the current thread is idle, one animator per idle pass. Must be called on a
+   * thread with a {@link Looper}, usually the main thread.
+   *
+   * @param technique
+   *     the technique
+   * @param count
+   *     the number of idle animators to have in the pool. Limited to {@link #getMaxSize()}.
+   */
+  public static void prewarm(Technique technique, int count) {
+    prewarm(technique.getSpec(), count);
+  }
+
+  /**
+   * Fill the pool of a spec while the current thread is idle, one animator per idle pass. Must be called on a thread
+   * with a {@link Looper}, usually the main thread.
+   *
+   * @param spec
+   *     the spec
+   * @param count
+   *     the number of idle animators to have in the pool. Limited to {@link #getMaxSize()}.
+   */
+  public static void prewarm(final TechniqueSpec spec, final int count) {
+    Looper.myQueue().addIdleHandler(new MessageQueue.IdleHandler() {
+
+      @Override public boolean queueIdle() {
+        synchronized (AnimatorPool.class) {
+          ArrayDeque<TechniqueSpec.SpecAnimator> pool = getPool(spec);
+          if (pool.size() >= Math.min(count, maxSize)) {
+            return false;
+          }
+          TechniqueSpec.SpecAnimator animator = new TechniqueSpec.SpecAnimator(spec);
+          animator.inflate();
+          pool.push(animator);
+          return pool.size() < Math.min(count, maxSize);
+        }
+      }
+    });
+  }
+
+  /**
+   * Drop all idle animators and the bitmaps kept for {@link Technique.Composer#snapshot(boolean)}.
+   */
+  public static synchronized void clear() {
+    POOLS.clear();
+    ViewSnapshot.clearBitmaps();
+  }
+
+  /**
+   * @return the number of times an animator was taken from a pool.
+   */
+  public static synchronized long getHitCount() {
+    return hits;
+  }
+
+  /**
+   * @return the number of times pooling was enabled but the pool was empty, so a new animator was allocated.
+   */
+  public static synchronized long getMissCount() {
+    return misses;
+  }
+
+  /**
+   * Reset the hit and miss counters.
+   */
+  public static synchronized void resetCounters() {
+    hits = 0;
+    misses = 0;
+  }
+
+  /**
+   * Take an animator from the pool of a spec, or allocate one if the pool is empty or pooling is disabled.
+   */
+  static synchronized TechniqueSpec.SpecAnimator obtain(TechniqueSpec spec) {
+    if (maxSize == 0) {
+      return new TechniqueSpec.SpecAnimator(spec);
+    }
+    TechniqueSpec.SpecAnimator animator = getPool(spec).poll();
+    if (animator == null) {
+      misses++;
+      animator = new TechniqueSpec.SpecAnimator(spec);
+    } else {
+      hits++;
+    }
+    animator.setPooled(true);
+    return animator;
+  }
+
+  /**
+   * Return an animator whose animation ended. Dropped if the pool is full.
+   */
+  static synchronized void release(TechniqueSpec.SpecAnimator animator) {
+    if (!animator.recycle()) {
+      return;
+    }
+    ArrayDeque<TechniqueSpec.SpecAnimator> pool = getPool(animator.getSpec());
+    if (pool.size() < maxSize) {
+      pool.push(animator);
+    }
+  }
+
+  private static ArrayDeque<TechniqueSpec.SpecAnimator> getPool(TechniqueSpec spec) {
+    ArrayDeque<TechniqueSpec.SpecAnimator> pool = POOLS.get(spec);
+    if (pool == null) {
+      pool = new ArrayDeque<>();
+      POOLS.put(spec, pool);
+    }
+    return pool;
+  }
+
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.animation.Animator;
+import android.util.Property;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>What the backends that play a {@link TechniqueSpec} without its {@link android.animation.AnimatorSet} have in
+ * common: ids for the view properties they set directly, and forwarding of the animation events to the listeners that
+ * were added to the owner's {@link android.animation.AnimatorSet}.</p>
+ *
+ * @see ViewPropertyBackend
+ * @see ValueAnimatorBackend
+ */
+final class BackendSupport {
+
+  /** A property without a direct setter, set through its {@link Property}. */
+  static final int OTHER = -1;
+  static final int ALPHA = 0;
+  static final int TRANSLATION_X = 1;
+  static final int TRANSLATION_Y = 2;
+  static final int SCALE_X = 3;
+  static final int SCALE_Y = 4;
+  static final int ROTATION = 5;
+  static final int ROTATION_X = 6;
+  static final int ROTATION_Y = 7;
+  static final int PIVOT_X = 8;
+  static final int PIVOT_Y = 9;
+
+  private static final int START = 0;
+  private static final int CANCEL = 1;
+  private static final int END = 2;
+  private static final int REPEAT = 3;
+
+  /**
+   * Get the id of a property, to set it with {@link #set(View, int, float)}.
+   *
+   * @param property
+   *     the property
+   * @return the id, or {@link #OTHER} if the property has no direct setter
+   */
+  static int propertyId(Property<View, Float> property) {
+    if (property == View.ALPHA) {
+      return ALPHA;
+    } else if (property == View.TRANSLATION_X) {
+      return TRANSLATION_X;
+    } else if (property == View.TRANSLATION_Y) {
+      return TRANSLATION_Y;
+    } else if (property == View.SCALE_X) {
+      return SCALE_X;
+    } else if (property == View.SCALE_Y) {
+      return SCALE_Y;
+    } else if (property == View.ROTATION) {
+      return ROTATION;
+    } else if (property == View.ROTATION_X) {
+      return ROTATION_X;
+    } else if (property == View.ROTATION_Y) {
+      return ROTATION_Y;
+    } else if (property == ViewProperties.PIVOT_X) {
+      return PIVOT_X;
+    } else if (property == ViewProperties.PIVOT_Y) {
+      return PIVOT_Y;
+    }
+    return OTHER;
+  }
+
+  /**
+   * Set a property on a view without boxing the value.
+   *
+   * @param view
+   *     the view
+   * @param property
+   *     the id from {@link #propertyId(Property)}
+   * @param value
+   *     the value
+   * @return {@code false} if the property is {@link #OTHER} and was not set.
+   */
+  static boolean set(View view, int property, float value) {
+    switch (property) {
+      case ALPHA:
+        view.setAlpha(value);
+        return true;
+      case TRANSLATION_X:
+        view.setTranslationX(value);
+        return true;
+      case TRANSLATION_Y:
+        view.setTranslationY(value);
+        return true;
+      case SCALE_X:
+        view.setScaleX(value);
+        return true;
+      case SCALE_Y:
+        view.setScaleY(value);
+        return true;
+      case ROTATION:
+        view.setRotation(value);
+        return true;
+      case ROTATION_X:
+        view.setRotationX(value);
+        return true;
+      case ROTATION_Y:
+        view.setRotationY(value);
+        return true;
+      case PIVOT_X:
+        view.setPivotX(value);
+        return true;
+      case PIVOT_Y:
+        view.setPivotY(value);
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private final Technique.SimpleAnimator owner;
+  private final List<Animator.AnimatorListener> dispatch = new ArrayList<>();
+  private boolean dispatching;
+
+  BackendSupport(Technique.SimpleAnimator owner) {
+    this.owner = owner;
+  }
+
+  /*
+   * The listeners were added to the owner's AnimatorSet, which is not played. Forward the events to them, with the set
+   * as the animation.
+   */
+
+  void dispatchStart() {
+    dispatch(START);
+  }
+
+  void dispatchCancel() {
+    dispatch(CANCEL);
+  }
+
+  void dispatchEnd() {
+    dispatch(END);
+  }
+
+  void dispatchRepeat() {
+    dispatch(REPEAT);
+  }
+
+  private void dispatch(int event) {
+    Animator set = owner.getAnimatorSet();
+    List<Animator.AnimatorListener> listeners = set.getListeners();
+    if (listeners == null || listeners.isEmpty()) {
+      return;
+    }
+    // Copy the listeners, since a listener may remove listeners while it is called. A listener that starts the
+    // animator again, for example after it was recycled, gets its own copy.
+    boolean nested = dispatching;
+    List<Animator.AnimatorListener> copy = nested ? new ArrayList<Animator.AnimatorListener>() : dispatch;
+    copy.addAll(listeners);
+    dispatching = true;
+    for (int i = 0; i < copy.size(); i++) {
+      Animator.AnimatorListener listener = copy.get(i);
+      switch (event) {
+        case START:
+          listener.onAnimationStart(set);
+          break;
+        case CANCEL:
+          listener.onAnimationCancel(set);
+          break;
+        case END:
+          listener.onAnimationEnd(set);
+          break;
+        default:
+          listener.onAnimationRepeat(set);
+          break;
+      }
+    }
+    copy.clear();
+    dispatching = nested;
+  }
+
+}
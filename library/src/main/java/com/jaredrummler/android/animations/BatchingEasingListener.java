@@ -0,0 +1,217 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.os.Handler;
+import android.os.Looper;
+
+/**
+ * <p>An {@link Skill.EasingMethod.EasingListener} that buffers samples instead of handling them inside the animation's
+ * evaluation. Samples are stored in a primitive ring buffer and delivered to a {@link Callback} in batches, or every N
+ * samples with {@link #flushEvery(int)}.</p>
+ *
+ * <p>A batch is flushed from a {@link Handler} message that is posted to the main thread when the first sample of the
+ * batch arrives. The message runs after the code that evaluated the animation returns, which usually means once per
+ * animation frame, but it is not tied to frames: if the main thread is busy, a batch may hold the samples of more than
+ * one frame.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * BatchingEasingListener listener = new BatchingEasingListener(new BatchingEasingListener.Callback() {
+ *
+ *     &#064;Override public void onSamples(float[] times, float[] values, int count,
+ *         float start, float change, float duration) {
+ *       plot(times, values, count);
+ *     }
+ * });
+ * Skill.BOUNCE_EASE_OUT.glide(1200, animator, listener);
+ * </pre>
+ *
+ * <p>This class is not thread-safe. It must be used on the main thread.</p>
+ */
+public final class BatchingEasingListener implements Skill.EasingMethod.EasingListener {
+
+  private static final int DEFAULT_CAPACITY = 64;
+
+  private final Handler handler = new Handler(Looper.getMainLooper());
+  private final Runnable flushRunnable = new Runnable() {
+
+    @Override public void run() {
+      scheduled = false;
+      flush();
+    }
+  };
+
+  private final Callback callback;
+  private final float[] times;
+  private final float[] values;
+  private final float[] batchTimes;
+  private final float[] batchValues;
+  private int head;
+  private int count;
+  private boolean scheduled;
+
+  private int flushEvery;
+  private float minInterval;
+  private float lastTime = Float.NaN;
+  private float start;
+  private float change;
+  private float duration;
+
+  /**
+   * Create a listener that buffers up to 64 samples.
+   *
+   * @param callback
+   *     the callback that receives the samples
+   */
+  public BatchingEasingListener(Callback callback) {
+    this(callback, DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a listener.
+   *
+   * @param callback
+   *     the callback that receives the samples
+   * @param capacity
+   *     the size of the ring buffer. If more samples arrive before a flush, the oldest ones are dropped.
+   */
+  public BatchingEasingListener(Callback callback, int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive, was " + capacity);
+    }
+    this.callback = callback;
+    this.times = new float[capacity];
+    this.values = new float[capacity];
+    this.batchTimes = new float[capacity];
+    this.batchValues = new float[capacity];
+  }
+
+  /**
+   * Flush as soon as a number of samples are buffered, instead of waiting for the posted flush.
+   *
+   * @param samples
+   *     the number of samples, from 1 to the capacity, or 0 to only flush from the posted message.
+   * @return this {@link BatchingEasingListener} object for chaining method calls
+   * @throws IllegalArgumentException
+   *     if the number is negative or larger than the capacity, since the ring buffer would drop samples before it is
+   *     ever full enough to flush.
+   */
+  public BatchingEasingListener flushEvery(int samples) {
+    if (samples < 0 || samples > times.length) {
+      throw new IllegalArgumentException("samples must be from 0 to the capacity " + times.length + ", was " + samples);
+    }
+    this.flushEvery = samples;
+    return this;
+  }
+
+  /**
+   * Cap the sampling rate. Samples that arrive sooner than the given interval after the last buffered sample are
+   * ignored. The last sample of the animation is always kept.
+   *
+   * @param interval
+   *     the minimum time between two samples, in the same unit as the animation's duration, usually milliseconds.
+   * @return this {@link BatchingEasingListener} object for chaining method calls
+   */
+  public BatchingEasingListener minInterval(float interval) {
+    this.minInterval = interval;
+    return this;
+  }
+
+  @Override public void on(float time, float value, float start, float end, float duration) {
+    if (minInterval > 0 && time < duration && Math.abs(time - lastTime) < minInterval) {
+      return;
+    }
+    lastTime = time;
+    this.start = start;
+    this.change = end;
+    this.duration = duration;
+    int capacity = times.length;
+    int index = (head + count) % capacity;
+    times[index] = time;
+    values[index] = value;
+    if (count < capacity) {
+      count++;
+    } else {
+      head = (head + 1) % capacity;
+    }
+    if (flushEvery > 0 && count >= flushEvery) {
+      flush();
+    } else if (!scheduled) {
+      scheduled = true;
+      handler.post(flushRunnable);
+    }
+  }
+
+  /**
+   * Deliver all buffered samples to the {@link Callback} now.
+   */
+  public void flush() {
+    if (count == 0) {
+      return;
+    }
+    int capacity = times.length;
+    for (int i = 0; i < count; i++) {
+      int index = (head + i) % capacity;
+      batchTimes[i] = times[index];
+      batchValues[i] = values[index];
+    }
+    int size = count;
+    head = 0;
+    count = 0;
+    callback.onSamples(batchTimes, batchValues, size, start, change, duration);
+  }
+
+  /**
+   * Drop all buffered samples without delivering them.
+   */
+  public void clear() {
+    handler.removeCallbacks(flushRunnable);
+    scheduled = false;
+    head = 0;
+    count = 0;
+    lastTime = Float.NaN;
+  }
+
+  /**
+   * Receives batches of samples from a {@link BatchingEasingListener}.
+   */
+  public interface Callback {
+
+    /**
+     * Called with a batch of samples, in the order they were evaluated. The arrays are reused after this method
+     * returns.
+     *
+     * @param times
+     *     the time of each sample
+     * @param values
+     *     the eased value of each sample
+     * @param count
+     *     the number of valid samples in the arrays
+     * @param start
+     *     the start value of the animation
+     * @param change
+     *     the change in value over the animation
+     * @param duration
+     *     the duration of the animation
+     */
+    void onSamples(float[] times, float[] values, int count, float start, float change, float duration);
+
+  }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.animation.Animator;
+import android.animation.ValueAnimator;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.animation.Interpolator;
+import android.view.animation.LinearInterpolator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>Plays a technique on many views, one after another. A single {@link ValueAnimator} measures the elapsed time
+ * for the whole cascade, and each view's animation is only prepared and started on the first frame after its delay
+ * elapsed. This scales to hundreds of views without hundreds of delayed animators or runnables.</p>
+ *
+ * <p>By default each view starts {@link #stagger(long) 40 milliseconds} after the previous one. With {@link
+ * #ease(Skill)} the start times follow a curve instead, for example to start the first views quickly and slow down
+ * towards the end.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * Technique.FADE_IN_UP.cascade(recyclerView)
+ *     .stagger(30)
+ *     .ease(Skill.QUAD_EASE_IN)
+ *     .duration(400)
+ *     .start();
+ * </pre>
+ */
+public final class Cascade {
+
+  private static final Interpolator LINEAR = new LinearInterpolator();
+
+  private final TechniqueSpec spec;
+  private final ViewGroup parent;
+  private final List<View> views;
+  private long stagger = 40;
+  private Skill skill;
+  private long duration = 1000;
+  private long delay;
+  private Interpolator interpolator;
+
+  Cascade(TechniqueSpec spec, ViewGroup parent, List<View> views) {
+    this.spec = spec;
+    this.parent = parent;
+    this.views = views;
+  }
+
+  /**
+   * Set the time between the start of one view's animation and the next.
+   *
+   * @param stagger
+   *     the time in milliseconds
+   * @return this {@link Cascade} object for chaining method calls.
+   */
+  public Cascade stagger(long stagger) {
+    if (stagger < 0) {
+      throw new IllegalArgumentException("stagger must not be negative, was " + stagger);
+    }
+    this.stagger = stagger;
+    return this;
+  }
+
+  /**
+   * Spread the start times along a curve. The last view still starts {@code stagger * (count - 1)} milliseconds after
+   * the first. Curves that overshoot are clamped, so the views always start in order.
+   *
+   * @param skill
+   *     the curve, or {@code null} to start the views at even intervals
+   * @return this {@link Cascade} object for chaining method calls.
+   */
+  public Cascade ease(Skill skill) {
+    this.skill = skill;
+    return this;
+  }
+
+  /**
+   * Set the duration of each view's animation.
+   *
+   * @param duration
+   *     the duration in milliseconds
+   * @return this {@link Cascade} object for chaining method calls.
+   */
+  public Cascade duration(long duration) {
+    this.duration = duration;
+    return this;
+  }
+
+  /**
+   * Set the time to wait before the first view starts.
+   *
+   * @param delay
+   *     time in milliseconds
+   * @return this {@link Cascade} object for chaining method calls.
+   */
+  public Cascade delay(long delay) {
+    this.delay = delay;
+    return this;
+  }
+
+  /**
+   * Set the interpolator of each view's animation.
+   *
+   * @param interpolator
+   *     the interpolator, or {@code null} for the technique's default
+   * @return this {@link Cascade} object for chaining method calls.
+   */
+  public Cascade interpolate(Interpolator interpolator) {
+    this.interpolator = interpolator;
+    return this;
+  }
+
+  /**
+   * Start the cascade. The children of a {@link ViewGroup} are collected now, in order, skipping children that
+   * are {@link View#GONE}. Must be called on a thread with a {@link android.os.Looper}, usually the main thread.
+   *
+   * @return the cascade's {@link Controller} which contains methods to stop or check if the cascade is running.
+   * @throws IllegalArgumentException
+   *     if the list of views contains {@code null}
+   */
+  public Controller start() {
+    List<View> targets;
+    if (parent != null) {
+      targets = new ArrayList<>(parent.getChildCount());
+      for (int i = 0; i < parent.getChildCount(); i++) {
+        View child = parent.getChildAt(i);
+        if (child.getVisibility() != View.GONE) {
+          targets.add(child);
+        }
+      }
+    } else {
+      targets = new ArrayList<>(views);
+      if (targets.contains(null)) {
+        throw new IllegalArgumentException("views must not contain null");
+      }
+    }
+    Controller controller = new Controller(this, targets.toArray(new View[targets.size()]));
+    controller.start();
+    return controller;
+  }
+
+  /**
+   * Compute when each view starts, relative to the start of the cascade.
+   */
+  long[] computeDelays(int count) {
+    long[] delays = new long[count];
+    long span = stagger * (count - 1);
+    long previous = 0;
+    for (int i = 1; i < count; i++) {
+      float fraction = (float) i / (count - 1);
+      if (skill != null) {
+        fraction = Math.max(0f, Math.min(1f, skill.ease(fraction)));
+      }
+      // Keep the views in order, even if the curve goes back.
+      previous = Math.max(previous, Math.round(fraction * span));
+      delays[i] = previous;
+    }
+    return delays;
+  }
+
+  /**
+   * Allows you to stop the cascade and check if it is running.
+   */
+  public static final class Controller {
+
+    private final Cascade cascade;
+    private final View[] views;
+    private final long[] delays;
+    private final Technique.Controller[] controllers;
+    private final ValueAnimator scheduler;
+    private int next;
+    private int running;
+    private boolean cancelled;
+
+    private final Scheduler listener = new Scheduler();
+
+    Controller(Cascade cascade, View[] views) {
+      this.cascade = cascade;
+      this.views = views;
+      this.delays = cascade.computeDelays(views.length);
+      this.controllers = new Technique.Controller[views.length];
+      long span = views.length == 0 ? 0 : delays[views.length - 1];
+      scheduler = ValueAnimator.ofFloat(0, 1);
+      scheduler.setDuration(span);
+      scheduler.setStartDelay(cascade.delay);
+      scheduler.setInterpolator(LINEAR);
+      scheduler.addUpdateListener(listener);
+      scheduler.addListener(listener);
+    }
+
+    void start() {
+      scheduler.start();
+    }
+
+    private void playUntil(long elapsed) {
+      while (next < views.length && delays[next] <= elapsed) {
+        play(next++);
+      }
+    }
+
+    /**
+     * Starts the views whose delay elapsed on each frame of the scheduler, and the rest when it ends.
+     */
+    private final class Scheduler extends EmptyAnimatorListener implements ValueAnimator.AnimatorUpdateListener {
+
+      @Override public void onAnimationUpdate(ValueAnimator animation) {
+        playUntil(Math.round(animation.getAnimatedFraction() * animation.getDuration()));
+      }
+
+      @Override public void onAnimationCancel(Animator animation) {
+        cancelled = true;
+      }
+
+      @Override public void onAnimationEnd(Animator animation) {
+        if (!cancelled) {
+          playUntil(Long.MAX_VALUE);
+        }
+      }
+
+    }
+
+    private void play(final int index) {
+      running++;
+      controllers[index] = cascade.spec.getComposer()
+          .duration(cascade.duration)
+          .interpolate(cascade.interpolator)
+          .withListener(new EmptyAnimatorListener() {
+
+            @Override public void onAnimationEnd(Animator animation) {
+              // A pooled animator's controller goes stale at the end, so let go of it here and reset the view directly.
+              controllers[index] = null;
+              running--;
+            }
+          })
+          .playOn(views[index]);
+    }
+
+    /**
+     * @return {@code true} if views are still waiting to start or any view's animation is running.
+     */
+    public boolean isRunning() {
+      return scheduler.isStarted() || running > 0;
+    }
+
+    /**
+     * Cancel the cascade. Views that did not start yet are left alone and running animations are cancelled.
+     *
+     * <p>This method must be called on the thread that is running the cascade.</p>
+     *
+     * @param reset
+     *     {@code true} to reset the views that started to default values after cancelling.
+     */
+    public void stop(boolean reset) {
+      scheduler.cancel();
+      for (int i = 0; i < next; i++) {
+        Technique.Controller controller = controllers[i];
+        if (controller != null) {
+          controller.stop(reset);
+        } else if (reset) {
+          Technique.SimpleAnimator.reset(views[i]);
+        }
+      }
+    }
+
+  }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.animation.TypeEvaluator;
+import android.animation.ValueAnimator;
+import android.support.annotation.ColorInt;
+
+/**
+ * <p>Eases ARGB colors with a {@link Skill} curve. The red, green and blue channels are blended in linear color space,
+ * which avoids the dark, muddy midpoints of blending sRGB values directly. Alpha is blended linearly.</p>
+ *
+ * <p>Conversions between sRGB and linear values use precomputed lookup tables that are shared by every instance, and
+ * {@link #evaluate(float, int, int)} works on primitive ints, so easing a color allocates nothing.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * Skill.SINE_EASE_IN_OUT.toColorEasing()
+ *     .animate(Color.RED, Color.BLUE, new ColorEasing.Setter() {
+ *
+ *       &#064;Override public void setColor(int color) {
+ *         view.setBackgroundColor(color);
+ *       }
+ *     })
+ *     .setDuration(500)
+ *     .start();
+ * </pre>
+ *
+ * @see Skill#toColorEasing()
+ */
+public final class ColorEasing {
+
+  /** The number of entries in the linear to sRGB table. Enough that neighbouring entries differ by at most one step. */
+  private static final int LINEAR_STEPS = 4096;
+
+  /** sRGB channel value (0-255) to linear intensity (0-1). */
+  private static final float[] SRGB_TO_LINEAR = new float[256];
+
+  /** Linear intensity, scaled to [0, LINEAR_STEPS - 1], to sRGB channel value (0-255). */
+  private static final byte[] LINEAR_TO_SRGB = new byte[LINEAR_STEPS];
+
+  static {
+    for (int i = 0; i < SRGB_TO_LINEAR.length; i++) {
+      double c = i / 255.0;
+      SRGB_TO_LINEAR[i] = (float) (c <= 0.04045 ? c / 12.92 : Math.pow((c + 0.055) / 1.055, 2.4));
+    }
+    for (int i = 0; i < LINEAR_STEPS; i++) {
+      double l = i / (double) (LINEAR_STEPS - 1);
+      double c = l <= 0.0031308 ? l * 12.92 : 1.055 * Math.pow(l, 1 / 2.4) - 0.055;
+      LINEAR_TO_SRGB[i] = (byte) Math.round(c * 255);
+    }
+  }
+
+  private final Skill skill;
+
+  /**
+   * @param skill
+   *     the curve to ease colors with
+   */
+  public ColorEasing(Skill skill) {
+    this.skill = skill;
+  }
+
+  /**
+   * Ease between two colors.
+   *
+   * @param fraction
+   *     the elapsed fraction of the animation, from 0 to 1
+   * @param startColor
+   *     the start color
+   * @param endColor
+   *     the end color
+   * @return the eased color
+   */
+  @ColorInt
+  public int evaluate(float fraction, @ColorInt int startColor, @ColorInt int endColor) {
+    return blend(skill.ease(fraction), startColor, endColor);
+  }
+
+  /**
+   * Blend two colors in linear color space, without applying a curve. Progress outside of [0, 1], for example from the
+   * BACK or ELASTIC curves, is extrapolated and clamped to valid colors.
+   *
+   * @param progress
+   *     the blend progress, where 0 is the start color and 1 is the end color
+   * @param startColor
+   *     the start color
+   * @param endColor
+   *     the end color
+   * @return the blended color
+   */
+  @ColorInt
+  public static int blend(float progress, @ColorInt int startColor, @ColorInt int endColor) {
+    int alpha = Math.round(lerp(startColor >>> 24, endColor >>> 24, progress));
+    alpha = Math.max(0, Math.min(255, alpha));
+    int red = channel(startColor >> 16, endColor >> 16, progress);
+    int green = channel(startColor >> 8, endColor >> 8, progress);
+    int blue = channel(startColor, endColor, progress);
+    return alpha << 24 | red << 16 | green << 8 | blue;
+  }
+
+  private static int channel(int start, int end, float progress) {
+    float linear = lerp(SRGB_TO_LINEAR[start & 0xFF], SRGB_TO_LINEAR[end & 0xFF], progress);
+    if (linear <= 0) {
+      return 0;
+    }
+    if (linear >= 1) {
+      return 255;
+    }
+    return LINEAR_TO_SRGB[(int) (linear * (LINEAR_STEPS - 1) + .5f)] & 0xFF;
+  }
+
+  private static float lerp(float start, float end, float progress) {
+    return start + (end - start) * progress;
+  }
+
+  /**
+   * Create an animator that eases between two colors and passes each color to a {@link Setter}. The animator animates
+   * a primitive fraction and the color is computed as an int, so no values are boxed while it runs.
+   *
+   * @param startColor
+   *     the start color
+   * @param endColor
+   *     the end color
+   * @param setter
+   *     receives the color on every frame
+   * @return a new {@link ValueAnimator}. Set a duration and start it.
+   */
+  public ValueAnimator animate(@ColorInt final int startColor, @ColorInt final int endColor, final Setter setter) {
+    ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+    animator.setInterpolator(skill.asInterpolator());
+    animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+
+      @Override public void onAnimationUpdate(ValueAnimator animation) {
+        setter.setColor(blend(animation.getAnimatedFraction(), startColor, endColor));
+      }
+    });
+    return animator;
+  }
+
+  /**
+   * Get a {@link TypeEvaluator} for animators created with int color values, such as {@code
+   * ObjectAnimator.ofInt(view, "backgroundColor", Color.RED, Color.BLUE)}. The {@link TypeEvaluator} interface boxes
+   * the result, so prefer {@link #animate(int, int, Setter)} when animating many colors at once.
+   *
+   * @return a new {@link TypeEvaluator}
+   */
+  public TypeEvaluator<Integer> asEvaluator() {
+    return new TypeEvaluator<Integer>() {
+
+      @Override public Integer evaluate(float fraction, Integer startValue, Integer endValue) {
+        return ColorEasing.this.evaluate(fraction, startValue, endValue);
+      }
+    };
+  }
+
+  /**
+   * @return the {@link Skill} colors are eased with.
+   */
+  public Skill getSkill() {
+    return skill;
+  }
+
+  /**
+   * Receives the color on every frame of {@link #animate(int, int, Setter)}.
+   */
+  public interface Setter {
+
+    void setColor(@ColorInt int color);
+
+  }
+
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.annotation.TargetApi;
+import android.graphics.Path;
+import android.os.Build.VERSION_CODES;
+import android.view.animation.PathInterpolator;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>A {@link Skill} curve approximated by a short list of cubic Bezier segments. The segments can be handed to the
+ * platform as a {@link Path} or a {@link PathInterpolator}, so complex curves like BOUNCE_EASE_OUT do not need to call
+ * back into Java code on every frame.</p>
+ *
+ * <p>Each segment is a cubic Hermite fit of the curve between two fractions. Segments are split in half until the
+ * error of every segment is within the tolerance. Fits are cached per (Skill, tolerance).</p>
+ *
+ * <p>A few curves can not be fitted to any tolerance: CIRC_EASE_IN and CIRC_EASE_OUT have a vertical tangent at one
+ * end, and the EXPO and ELASTIC curves jump by about 0.001 at their endpoints. Splitting stops after a fixed depth, and
+ * {@link #getMaxError()} reports the error that was actually reached.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * EasingBezierFit fit = Skill.BOUNCE_EASE_OUT.toBezier(0.001f);
+ * animator.setInterpolator(fit.toInterpolator());
+ * </pre>
+ *
+ * @see Skill#toBezier(float)
+ */
+public final class EasingBezierFit {
+
+  /** The maximum number of times a segment is split in half. */
+  private static final int MAX_DEPTH = 16;
+
+  /** The number of points checked on each segment when measuring the error. */
+  private static final int ERROR_PROBES = 32;
+
+  /** The number of floats per segment: start, control 1, control 2 and end points. */
+  private static final int SEGMENT_SIZE = 8;
+
+  private static final Map<Skill, Map<Float, EasingBezierFit>> CACHE = new EnumMap<>(Skill.class);
+
+  /**
+   * Get the cached fit for a {@link Skill}, fitting it if needed.
+   *
+   * @param skill
+   *     the curve to fit
+   * @param tolerance
+   *     the maximum error of the fit, on a normalized curve
+   * @return the fit
+   */
+  static EasingBezierFit obtain(Skill skill, float tolerance) {
+    if (!(tolerance > 0)) {
+      throw new IllegalArgumentException("tolerance must be positive, was " + tolerance);
+    }
+    synchronized (CACHE) {
+      Map<Float, EasingBezierFit> fits = CACHE.get(skill);
+      if (fits == null) {
+        fits = new HashMap<>();
+        CACHE.put(skill, fits);
+      }
+      EasingBezierFit fit = fits.get(tolerance);
+      if (fit == null) {
+        fit = new EasingBezierFit(skill, tolerance);
+        fits.put(tolerance, fit);
+      }
+      return fit;
+    }
+  }
+
+  private final Skill skill;
+  private final float tolerance;
+  private final float[] segments;
+  private final float maxError;
+
+  private EasingBezierFit(Skill skill, float tolerance) {
+    this.skill = skill;
+    this.tolerance = tolerance;
+    float[] breakpoints = breakpoints(skill);
+    Segments out = new Segments();
+    for (int i = 0; i < breakpoints.length - 1; i++) {
+      fit(breakpoints[i], breakpoints[i + 1], 0, out);
+    }
+    this.segments = out.toArray();
+    float error = 0;
+    for (int i = 0; i < segments.length; i += SEGMENT_SIZE) {
+      error = Math.max(error, error(segments, i));
+    }
+    this.maxError = error;
+  }
+
+  /**
+   * Fractions where the curve is not smooth. Segments never span these points.
+   */
+  private static float[] breakpoints(Skill skill) {
+    switch (skill) {
+      case BOUNCE_EASE_OUT:
+        return new float[]{0, 1 / 2.75f, 2 / 2.75f, 2.5f / 2.75f, 1};
+      case BOUNCE_EASE_IN:
+        return new float[]{0, 1 - 2.5f / 2.75f, 1 - 2 / 2.75f, 1 - 1 / 2.75f, 1};
+      case BOUNCE_EASE_IN_OUT:
+        return new float[]{
+            0, (1 - 2.5f / 2.75f) / 2, (1 - 2 / 2.75f) / 2, (1 - 1 / 2.75f) / 2, .5f,
+            .5f + (1 / 2.75f) / 2, .5f + (2 / 2.75f) / 2, .5f + (2.5f / 2.75f) / 2, 1};
+      case BACK_EASE_IN_OUT:
+      case CIRC_EASE_IN_OUT:
+      case ELASTIC_EASE_IN_OUT:
+      case EXPO_EASE_IN_OUT:
+      case QUAD_EASE_IN_OUT:
+      case QUINT_EASE_IN_OUT:
+      case SINE_EASE_IN_OUT:
+        return new float[]{0, .5f, 1};
+      default:
+        return new float[]{0, 1};
+    }
+  }
+
+  private void fit(float x0, float x1, int depth, Segments out) {
+    float h = x1 - x0;
+    float step = h / 256;
+    float y0 = skill.ease(x0);
+    float y1 = skill.ease(x1);
+    // Derivatives are extrapolated from three points just inside the segment, so a kink or a jump at an endpoint
+    // does not leak into the segment.
+    float m0 = (-2.5f * skill.ease(x0 + step) + 4 * skill.ease(x0 + 2 * step)
+        - 1.5f * skill.ease(x0 + 3 * step)) / step;
+    float m1 = (2.5f * skill.ease(x1 - step) - 4 * skill.ease(x1 - 2 * step)
+        + 1.5f * skill.ease(x1 - 3 * step)) / step;
+    int index = out.add(x0, y0, x0 + h / 3, y0 + m0 * h / 3, x1 - h / 3, y1 - m1 * h / 3, x1, y1);
+    if (depth < MAX_DEPTH && error(out.data, index) > tolerance) {
+      out.size = index;
+      float mid = x0 + h / 2;
+      fit(x0, mid, depth + 1, out);
+      fit(mid, x1, depth + 1, out);
+    }
+  }
+
+  /**
+   * The largest difference between the curve and the segment at an offset in an array of segments.
+   */
+  private float error(float[] data, int offset) {
+    float x0 = data[offset];
+    float x1 = data[offset + 6];
+    float error = 0;
+    for (int i = 1; i < ERROR_PROBES; i++) {
+      float u = (float) i / ERROR_PROBES;
+      float x = x0 + (x1 - x0) * u;
+      error = Math.max(error, Math.abs(skill.ease(x) - cubic(data, offset + 1, u)));
+    }
+    return error;
+  }
+
+  /**
+   * Evaluate the y coordinate of a segment. Control points are placed at thirds of the segment, so x is linear in u.
+   */
+  private static float cubic(float[] data, int offset, float u) {
+    float v = 1 - u;
+    return v * v * v * data[offset] + 3 * v * v * u * data[offset + 2]
+        + 3 * v * u * u * data[offset + 4] + u * u * u * data[offset + 6];
+  }
+
+  /**
+   * Get the eased value for a fraction by evaluating the fitted segments.
+   *
+   * @param fraction
+   *     the elapsed fraction of the animation. Values outside of [0, 1] are clamped.
+   * @return the eased fraction
+   */
+  public float ease(float fraction) {
+    if (fraction <= 0) {
+      return segments[1];
+    }
+    if (fraction >= 1) {
+      return segments[segments.length - 1];
+    }
+    int low = 0;
+    int high = segments.length / SEGMENT_SIZE - 1;
+    while (low < high) {
+      int mid = (low + high + 1) >>> 1;
+      if (segments[mid * SEGMENT_SIZE] <= fraction) {
+        low = mid;
+      } else {
+        high = mid - 1;
+      }
+    }
+    int offset = low * SEGMENT_SIZE;
+    float x0 = segments[offset];
+    float u = (fraction - x0) / (segments[offset + 6] - x0);
+    return cubic(segments, offset + 1, u);
+  }
+
+  /**
+   * Get the fit as a path from (0, 0) to (1, 1) that can be passed to {@link PathInterpolator#PathInterpolator(Path)}.
+   *
+   * @return a new {@link Path}
+   */
+  public Path toPath() {
+    Path path = new Path();
+    path.moveTo(segments[0], segments[1]);
+    for (int i = 0; i < segments.length; i += SEGMENT_SIZE) {
+      path.cubicTo(segments[i + 2], segments[i + 3], segments[i + 4], segments[i + 5],
+          segments[i + 6], segments[i + 7]);
+    }
+    return path;
+  }
+
+  /**
+   * Get the fit as a platform {@link PathInterpolator}.
+   *
+   * @return a new {@link PathInterpolator}
+   */
+  @TargetApi(VERSION_CODES.LOLLIPOP)
+  public PathInterpolator toInterpolator() {
+    return new PathInterpolator(toPath());
+  }
+
+  /**
+   * Get the segments of the fit. Each segment is stored as 8 floats: the start point, the first control point, the
+   * second control point and the end point, each as an (x, y) pair.
+   *
+   * @return a copy of the segments
+   */
+  public float[] getSegments() {
+    return segments.clone();
+  }
+
+  /**
+   * @return the number of cubic segments in the fit.
+   */
+  public int getSegmentCount() {
+    return segments.length / SEGMENT_SIZE;
+  }
+
+  /**
+   * @return the largest absolute difference between the fit and the curve, on a normalized curve where the start
+   * value is 0 and the end value is 1. This may exceed the tolerance if a segment could not be split further.
+   */
+  public float getMaxError() {
+    return maxError;
+  }
+
+  /**
+   * @return the tolerance the curve was fitted with.
+   */
+  public float getTolerance() {
+    return tolerance;
+  }
+
+  /**
+   * @return the {@link Skill} that was fitted.
+   */
+  public Skill getSkill() {
+    return skill;
+  }
+
+  private static final class Segments {
+
+    float[] data = new float[SEGMENT_SIZE * 16];
+    int size;
+
+    int add(float... values) {
+      if (size + values.length > data.length) {
+        float[] grown = new float[data.length * 2];
+        System.arraycopy(data, 0, grown, 0, size);
+        data = grown;
+      }
+      int index = size;
+      System.arraycopy(values, 0, data, size, values.length);
+      size += values.length;
+      return index;
+    }
+
+    float[] toArray() {
+      float[] array = new float[size];
+      System.arraycopy(data, 0, array, 0, size);
+      return array;
+    }
+
+  }
+
+}
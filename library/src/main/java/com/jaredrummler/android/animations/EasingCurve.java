@@ -0,0 +1,330 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.view.animation.Interpolator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <p>An easing curve composed from {@link Skill} curves. Curves can be reversed, mirrored, chained and blended.</p>
+ *
+ * <p>Composition happens once, when the curve is built. The result is stored flat: the curve is split into segments,
+ * and each segment is a sum of scaled and shifted {@link Skill#ease(float)} terms plus a constant. Evaluating a curve
+ * never allocates and never delegates to another curve object, no matter how it was composed.</p>
+ *
+ * <p>Curves are immutable and can be shared between animators.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * EasingCurve curve = Skill.QUAD_EASE_IN.toCurve()
+ *     .blend(Skill.BOUNCE_EASE_OUT, 0.5f)
+ *     .mirror();
+ * animator.setInterpolator(curve);
+ * </pre>
+ */
+public final class EasingCurve implements Interpolator {
+
+  /**
+   * Get the curve of a {@link Skill}.
+   *
+   * @param skill
+   *     the skill
+   * @return the curve
+   * @see Skill#toCurve()
+   */
+  public static EasingCurve of(Skill skill) {
+    return new EasingCurve(new float[]{0, 1}, new int[]{0, 1}, new Skill[]{skill},
+        new float[]{1}, new float[]{0}, new float[]{1}, new float[]{0});
+  }
+
+  /** The fractions where segments start and end. Segment i covers [breaks[i], breaks[i + 1]]. */
+  private final float[] breaks;
+  /** The terms of segment i are at indices [termStart[i], termStart[i + 1]). */
+  private final int[] termStart;
+  private final Skill[] skills;
+  private final float[] inScales;
+  private final float[] inOffsets;
+  private final float[] outScales;
+  /** The constant added to each segment. */
+  private final float[] constants;
+
+  private EasingCurve(float[] breaks, int[] termStart, Skill[] skills, float[] inScales, float[] inOffsets,
+                      float[] outScales, float[] constants) {
+    this.breaks = breaks;
+    this.termStart = termStart;
+    this.skills = skills;
+    this.inScales = inScales;
+    this.inOffsets = inOffsets;
+    this.outScales = outScales;
+    this.constants = constants;
+  }
+
+  /**
+   * Get the eased value for a fraction.
+   *
+   * @param fraction
+   *     the elapsed fraction of the animation, from 0 to 1
+   * @return the eased fraction, where 0 is the start value and 1 is the end value.
+   */
+  public float ease(float fraction) {
+    int segment = segmentAt(fraction);
+    float value = constants[segment];
+    for (int i = termStart[segment], end = termStart[segment + 1]; i < end; i++) {
+      value += outScales[i] * skills[i].ease(inScales[i] * fraction + inOffsets[i]);
+    }
+    return value;
+  }
+
+  @Override public float getInterpolation(float input) {
+    return ease(input);
+  }
+
+  /**
+   * Get an {@link Skill.EasingMethod} that evaluates this curve.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @return a new {@link Skill.EasingMethod}
+   */
+  public Skill.EasingMethod getMethod(float duration) {
+    return new Skill.EasingMethod(duration) {
+
+      @Override public float calculate(float t, float b, float c, float d) {
+        return c * ease(t / d) + b;
+      }
+    };
+  }
+
+  /**
+   * Play this curve backwards in time, so that ease-in becomes ease-out. The result is {@code 1 - f(1 - t)}; this is
+   * how BOUNCE_EASE_IN is built from BOUNCE_EASE_OUT.
+   *
+   * @return the reversed curve
+   */
+  public EasingCurve reverse() {
+    Builder builder = new Builder();
+    for (int segment = constants.length - 1; segment >= 0; segment--) {
+      builder.segment(1 - breaks[segment + 1], 1 - constants[segment]);
+      for (int i = termStart[segment], end = termStart[segment + 1]; i < end; i++) {
+        // ease(a * (1 - t) + o) = ease(-a * t + (a + o))
+        builder.term(skills[i], -inScales[i], inScales[i] + inOffsets[i], -outScales[i]);
+      }
+    }
+    return builder.build(1);
+  }
+
+  /**
+   * Play this curve over the first half of the animation and its {@link #reverse()} over the second half. Mirroring an
+   * ease-in curve gives the matching ease-in-out curve.
+   *
+   * @return the mirrored curve
+   */
+  public EasingCurve mirror() {
+    return then(reverse(), .5f);
+  }
+
+  /**
+   * Play this curve over the first half of the animation, covering the first half of the values, and then another curve
+   * over the rest.
+   *
+   * @param next
+   *     the curve to play second
+   * @return the chained curve
+   */
+  public EasingCurve then(EasingCurve next) {
+    return then(next, .5f);
+  }
+
+  /**
+   * Play this curve from 0 to {@code split}, covering the values from 0 to {@code split}, and then another curve from
+   * {@code split} to 1.
+   *
+   * @param next
+   *     the curve to play second
+   * @param split
+   *     the fraction where the curves meet, between 0 and 1 exclusive
+   * @return the chained curve
+   */
+  public EasingCurve then(EasingCurve next, float split) {
+    if (!(split > 0 && split < 1)) {
+      throw new IllegalArgumentException("split must be between 0 and 1, was " + split);
+    }
+    Builder builder = new Builder();
+    appendScaled(builder, this, 0, split);
+    appendScaled(builder, next, split, 1 - split);
+    return builder.build(1);
+  }
+
+  /**
+   * Copy a curve into a builder, squeezed into the range [start, start + scale] in both time and value.
+   */
+  private static void appendScaled(Builder builder, EasingCurve curve, float start, float scale) {
+    for (int segment = 0; segment < curve.constants.length; segment++) {
+      builder.segment(start + scale * curve.breaks[segment], start + scale * curve.constants[segment]);
+      for (int i = curve.termStart[segment], end = curve.termStart[segment + 1]; i < end; i++) {
+        // The term reads the curve's own fraction, (t - start) / scale.
+        float inScale = curve.inScales[i] / scale;
+        builder.term(curve.skills[i], inScale, curve.inOffsets[i] - inScale * start, curve.outScales[i] * scale);
+      }
+    }
+  }
+
+  /**
+   * Blend this curve with another: {@code (1 - weight) * this + weight * other}.
+   *
+   * @param other
+   *     the curve to blend with
+   * @param weight
+   *     the weight of the other curve, usually from 0 to 1
+   * @return the blended curve
+   */
+  public EasingCurve blend(EasingCurve other, float weight) {
+    float[] merged = mergeBreaks(breaks, other.breaks);
+    Builder builder = new Builder();
+    for (int i = 0; i < merged.length - 1; i++) {
+      float mid = (merged[i] + merged[i + 1]) / 2;
+      int a = segmentAt(mid);
+      int b = other.segmentAt(mid);
+      builder.segment(merged[i], (1 - weight) * constants[a] + weight * other.constants[b]);
+      for (int j = termStart[a], end = termStart[a + 1]; j < end; j++) {
+        builder.term(skills[j], inScales[j], inOffsets[j], (1 - weight) * outScales[j]);
+      }
+      for (int j = other.termStart[b], end = other.termStart[b + 1]; j < end; j++) {
+        builder.term(other.skills[j], other.inScales[j], other.inOffsets[j], weight * other.outScales[j]);
+      }
+    }
+    return builder.build(1);
+  }
+
+  /**
+   * Blend this curve with a {@link Skill}.
+   *
+   * @param other
+   *     the skill to blend with
+   * @param weight
+   *     the weight of the skill, usually from 0 to 1
+   * @return the blended curve
+   * @see #blend(EasingCurve, float)
+   */
+  public EasingCurve blend(Skill other, float weight) {
+    return blend(of(other), weight);
+  }
+
+  /**
+   * Chain this curve with a {@link Skill}.
+   *
+   * @param next
+   *     the skill to play second
+   * @return the chained curve
+   * @see #then(EasingCurve)
+   */
+  public EasingCurve then(Skill next) {
+    return then(of(next));
+  }
+
+  /**
+   * @return the number of segments the curve is split into.
+   */
+  public int getSegmentCount() {
+    return constants.length;
+  }
+
+  /**
+   * @return the total number of {@link Skill} terms evaluated across all segments.
+   */
+  public int getTermCount() {
+    return skills.length;
+  }
+
+  private int segmentAt(float fraction) {
+    int segment = 0;
+    int last = constants.length - 1;
+    while (segment < last && fraction >= breaks[segment + 1]) {
+      segment++;
+    }
+    return segment;
+  }
+
+  private static float[] mergeBreaks(float[] a, float[] b) {
+    float[] merged = new float[a.length + b.length];
+    System.arraycopy(a, 0, merged, 0, a.length);
+    System.arraycopy(b, 0, merged, a.length, b.length);
+    Arrays.sort(merged);
+    int size = 0;
+    for (float value : merged) {
+      if (size == 0 || value != merged[size - 1]) {
+        merged[size++] = value;
+      }
+    }
+    return Arrays.copyOf(merged, size);
+  }
+
+  /**
+   * Collects segments and terms while a curve is composed. Only used when building a curve, never when evaluating one.
+   */
+  private static final class Builder {
+
+    private final List<Float> breaks = new ArrayList<>();
+    private final List<Integer> termStart = new ArrayList<>();
+    private final List<Float> constants = new ArrayList<>();
+    private final List<Skill> skills = new ArrayList<>();
+    private final List<float[]> terms = new ArrayList<>();
+
+    void segment(float start, float constant) {
+      breaks.add(start);
+      termStart.add(skills.size());
+      constants.add(constant);
+    }
+
+    void term(Skill skill, float inScale, float inOffset, float outScale) {
+      skills.add(skill);
+      terms.add(new float[]{inScale, inOffset, outScale});
+    }
+
+    EasingCurve build(float end) {
+      int segments = constants.size();
+      float[] breaks = new float[segments + 1];
+      int[] termStart = new int[segments + 1];
+      float[] constants = new float[segments];
+      for (int i = 0; i < segments; i++) {
+        breaks[i] = this.breaks.get(i);
+        termStart[i] = this.termStart.get(i);
+        constants[i] = this.constants.get(i);
+      }
+      breaks[segments] = end;
+      termStart[segments] = skills.size();
+      int count = terms.size();
+      float[] inScales = new float[count];
+      float[] inOffsets = new float[count];
+      float[] outScales = new float[count];
+      for (int i = 0; i < count; i++) {
+        float[] term = terms.get(i);
+        inScales[i] = term[0];
+        inOffsets[i] = term[1];
+        outScales[i] = term[2];
+      }
+      return new EasingCurve(breaks, termStart, skills.toArray(new Skill[count]), inScales, inOffsets, outScales,
+          constants);
+    }
+
+  }
+
+}
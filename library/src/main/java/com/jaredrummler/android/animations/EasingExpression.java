@@ -0,0 +1,782 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>An easing curve defined by an expression string, for curves that are not known until runtime, such as curves
+ * loaded from a remote config. Expressions use the same variables as {@link Skill.EasingMethod#calculate(float, float,
+ * float, float)}: {@code t} is the elapsed time, {@code b} the start value, {@code c} the change in value and {@code d}
+ * the duration.</p>
+ *
+ * <p>An expression is parsed once, constant sub-expressions are folded, and the rest is compiled into a flat array of
+ * instructions for a small float stack machine. Evaluating the program does not allocate. Compiled expressions are
+ * immutable and cached by source string.</p>
+ *
+ * <p>The syntax supports:</p>
+ *
+ * <ul>
+ * <li>numbers, the variables {@code t}, {@code b}, {@code c} and {@code d}, and the constants {@code pi} and {@code
+ * e}</li>
+ * <li>{@code + - * / %}, and {@code ^} for powers</li>
+ * <li>comparisons {@code < <= > >= == !=}, {@code && || !} and the conditional {@code cond ? a : b}, where 0 is
+ * false and any other value is true</li>
+ * <li>the functions {@code sin cos tan asin acos atan sqrt exp log abs floor ceil} with one argument, {@code pow min
+ * max atan2} with two and {@code clamp(x, min, max)}</li>
+ * </ul>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * EasingExpression quad = EasingExpression.compile("c * (t / d) ^ 2 + b");
+ * ObjectAnimator animator = ObjectAnimator.ofFloat(view, "translationY", 0, 100);
+ * animator.setEvaluator(quad.getMethod(1200));
+ * </pre>
+ */
+public final class EasingExpression {
+
+  /** The maximum number of compiled expressions kept in the cache. */
+  private static final int MAX_CACHED = 64;
+
+  /** The deepest nesting of parentheses, arguments and unary operators, so parsing can not overflow the stack. */
+  private static final int MAX_NESTING = 64;
+
+  /** The tallest syntax tree, so folding and compiling it can not overflow the stack. */
+  private static final int MAX_HEIGHT = 1024;
+
+  private static final Map<String, EasingExpression> CACHE =
+      new LinkedHashMap<String, EasingExpression>(16, 0.75f, true) {
+
+        @Override protected boolean removeEldestEntry(Map.Entry<String, EasingExpression> eldest) {
+          return size() > MAX_CACHED;
+        }
+      };
+
+  // Instructions. CONST and the jumps are followed by one operand.
+  private static final int CONST = 0;
+  private static final int LOAD_T = 1;
+  private static final int LOAD_B = 2;
+  private static final int LOAD_C = 3;
+  private static final int LOAD_D = 4;
+  private static final int NEG = 5;
+  private static final int NOT = 6;
+  private static final int ADD = 7;
+  private static final int SUB = 8;
+  private static final int MUL = 9;
+  private static final int DIV = 10;
+  private static final int MOD = 11;
+  private static final int POW = 12;
+  private static final int LT = 13;
+  private static final int LE = 14;
+  private static final int GT = 15;
+  private static final int GE = 16;
+  private static final int EQ = 17;
+  private static final int NE = 18;
+  private static final int AND = 19;
+  private static final int OR = 20;
+  private static final int SIN = 21;
+  private static final int COS = 22;
+  private static final int TAN = 23;
+  private static final int ASIN = 24;
+  private static final int ACOS = 25;
+  private static final int ATAN = 26;
+  private static final int SQRT = 27;
+  private static final int EXP = 28;
+  private static final int LOG = 29;
+  private static final int ABS = 30;
+  private static final int FLOOR = 31;
+  private static final int CEIL = 32;
+  private static final int MIN = 33;
+  private static final int MAX = 34;
+  private static final int ATAN2 = 35;
+  private static final int CLAMP = 36;
+  /** Jump by the operand if the top of the stack is 0. Pops the condition. */
+  private static final int JUMP_IF_FALSE = 37;
+  /** Jump by the operand. */
+  private static final int JUMP = 38;
+  /** Not an instruction: the conditional operator in the syntax tree. */
+  private static final int CONDITIONAL = 39;
+
+  private static final String[] FUNCTIONS = {
+      "sin", "cos", "tan", "asin", "acos", "atan", "sqrt", "exp", "log", "abs", "floor", "ceil",
+      "pow", "min", "max", "atan2", "clamp"
+  };
+
+  private static final int[] FUNCTION_OPS = {
+      SIN, COS, TAN, ASIN, ACOS, ATAN, SQRT, EXP, LOG, ABS, FLOOR, CEIL, POW, MIN, MAX, ATAN2, CLAMP
+  };
+
+  /**
+   * Compile an expression, or get it from the cache if it was compiled before.
+   *
+   * @param source
+   *     the expression
+   * @return the compiled expression
+   * @throws IllegalArgumentException
+   *     if the expression is not valid or is nested too deeply
+   */
+  public static EasingExpression compile(String source) {
+    synchronized (CACHE) {
+      EasingExpression expression = CACHE.get(source);
+      if (expression == null) {
+        expression = new EasingExpression(source);
+        CACHE.put(source, expression);
+      }
+      return expression;
+    }
+  }
+
+  private final String source;
+  private final int[] code;
+  private final float[] constants;
+  private final int maxStack;
+
+  private EasingExpression(String source) {
+    this.source = source;
+    Parser parser = new Parser(source);
+    Node root = fold(parser.parse());
+    Emitter emitter = new Emitter();
+    emitter.emit(root);
+    this.code = Arrays.copyOf(emitter.code, emitter.size);
+    this.constants = new float[emitter.constants.size()];
+    for (int i = 0; i < constants.length; i++) {
+      constants[i] = emitter.constants.get(i);
+    }
+    this.maxStack = Math.max(1, emitter.maxDepth);
+  }
+
+  /**
+   * Evaluate the expression.
+   *
+   * @param stack
+   *     the working stack, at least {@link #getStackSize()} long. Reuse it between calls to avoid allocating.
+   * @param t
+   *     the elapsed time
+   * @param b
+   *     the start value
+   * @param c
+   *     the change in value
+   * @param d
+   *     the duration
+   * @return the value of the expression
+   */
+  public float evaluate(float[] stack, float t, float b, float c, float d) {
+    int[] code = this.code;
+    int sp = -1;
+    int pc = 0;
+    while (pc < code.length) {
+      switch (code[pc++]) {
+        case CONST:
+          stack[++sp] = constants[code[pc++]];
+          break;
+        case LOAD_T:
+          stack[++sp] = t;
+          break;
+        case LOAD_B:
+          stack[++sp] = b;
+          break;
+        case LOAD_C:
+          stack[++sp] = c;
+          break;
+        case LOAD_D:
+          stack[++sp] = d;
+          break;
+        case JUMP_IF_FALSE:
+          if (stack[sp--] == 0) {
+            pc += code[pc];
+          }
+          pc++;
+          break;
+        case JUMP:
+          pc += code[pc] + 1;
+          break;
+        case NEG:
+        case NOT:
+        case SIN:
+        case COS:
+        case TAN:
+        case ASIN:
+        case ACOS:
+        case ATAN:
+        case SQRT:
+        case EXP:
+        case LOG:
+        case ABS:
+        case FLOOR:
+        case CEIL:
+          stack[sp] = apply(code[pc - 1], stack[sp]);
+          break;
+        case CLAMP:
+          sp -= 2;
+          stack[sp] = Math.max(stack[sp + 1], Math.min(stack[sp + 2], stack[sp]));
+          break;
+        default:
+          sp--;
+          stack[sp] = apply(code[pc - 1], stack[sp], stack[sp + 1]);
+          break;
+      }
+    }
+    return stack[sp];
+  }
+
+  private static float apply(int op, float x) {
+    switch (op) {
+      case NEG:
+        return -x;
+      case NOT:
+        return x == 0 ? 1 : 0;
+      case SIN:
+        return (float) Math.sin(x);
+      case COS:
+        return (float) Math.cos(x);
+      case TAN:
+        return (float) Math.tan(x);
+      case ASIN:
+        return (float) Math.asin(x);
+      case ACOS:
+        return (float) Math.acos(x);
+      case ATAN:
+        return (float) Math.atan(x);
+      case SQRT:
+        return (float) Math.sqrt(x);
+      case EXP:
+        return (float) Math.exp(x);
+      case LOG:
+        return (float) Math.log(x);
+      case ABS:
+        return Math.abs(x);
+      case FLOOR:
+        return (float) Math.floor(x);
+      case CEIL:
+        return (float) Math.ceil(x);
+      default:
+        throw new IllegalStateException("Not a unary instruction: " + op);
+    }
+  }
+
+  private static float apply(int op, float x, float y) {
+    switch (op) {
+      case ADD:
+        return x + y;
+      case SUB:
+        return x - y;
+      case MUL:
+        return x * y;
+      case DIV:
+        return x / y;
+      case MOD:
+        return x % y;
+      case POW:
+        return (float) Math.pow(x, y);
+      case LT:
+        return x < y ? 1 : 0;
+      case LE:
+        return x <= y ? 1 : 0;
+      case GT:
+        return x > y ? 1 : 0;
+      case GE:
+        return x >= y ? 1 : 0;
+      case EQ:
+        return x == y ? 1 : 0;
+      case NE:
+        return x != y ? 1 : 0;
+      case AND:
+        return x != 0 && y != 0 ? 1 : 0;
+      case OR:
+        return x != 0 || y != 0 ? 1 : 0;
+      case MIN:
+        return Math.min(x, y);
+      case MAX:
+        return Math.max(x, y);
+      case ATAN2:
+        return (float) Math.atan2(x, y);
+      default:
+        throw new IllegalStateException("Not a binary instruction: " + op);
+    }
+  }
+
+  /**
+   * Get an {@link Skill.EasingMethod} that evaluates this expression. Each method owns its working stack, so methods
+   * from the same expression can be used by different animators at the same time.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @return a new {@link Skill.EasingMethod}
+   */
+  public Skill.EasingMethod getMethod(float duration) {
+    final float[] stack = new float[maxStack];
+    return new Skill.EasingMethod(duration) {
+
+      @Override public float calculate(float t, float b, float c, float d) {
+        return EasingExpression.this.evaluate(stack, t, b, c, d);
+      }
+    };
+  }
+
+  /**
+   * @return the size of the working stack {@link #evaluate(float[], float, float, float, float)} needs.
+   */
+  public int getStackSize() {
+    return maxStack;
+  }
+
+  /**
+   * @return the number of instructions in the compiled program, after constant folding.
+   */
+  public int getInstructionCount() {
+    int count = 0;
+    for (int pc = 0; pc < code.length; pc++) {
+      int op = code[pc];
+      if (op == CONST || op == JUMP || op == JUMP_IF_FALSE) {
+        pc++;
+      }
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * @return the expression this was compiled from.
+   */
+  public String getSource() {
+    return source;
+  }
+
+  @Override public String toString() {
+    return source;
+  }
+
+  /**
+   * Replace every operation whose operands are all constants with its result.
+   */
+  private static Node fold(Node node) {
+    if (node.args == null) {
+      return node;
+    }
+    boolean constant = true;
+    for (int i = 0; i < node.args.length; i++) {
+      node.args[i] = fold(node.args[i]);
+      constant &= node.args[i].op == CONST;
+    }
+    if (node.op == CONDITIONAL && node.args[0].op == CONST) {
+      return node.args[0].value != 0 ? node.args[1] : node.args[2];
+    }
+    if (!constant) {
+      return node;
+    }
+    float value;
+    if (node.args.length == 1) {
+      value = apply(node.op, node.args[0].value);
+    } else if (node.op == CLAMP) {
+      value = Math.max(node.args[1].value, Math.min(node.args[2].value, node.args[0].value));
+    } else {
+      value = apply(node.op, node.args[0].value, node.args[1].value);
+    }
+    return Node.constant(value);
+  }
+
+  private static final class Node {
+
+    final int op;
+    final float value;
+    final Node[] args;
+    final int height;
+
+    Node(int op, float value, Node... args) {
+      this.op = op;
+      this.value = value;
+      this.args = args.length == 0 ? null : args;
+      int height = 0;
+      for (Node arg : args) {
+        height = Math.max(height, arg.height);
+      }
+      this.height = height + 1;
+    }
+
+    static Node constant(float value) {
+      return new Node(CONST, value);
+    }
+
+    static Node of(int op, Node... args) {
+      return new Node(op, 0, args);
+    }
+
+  }
+
+  private static final class Emitter {
+
+    final List<Float> constants = new ArrayList<>();
+    int[] code = new int[32];
+    int size;
+    int depth;
+    int maxDepth;
+
+    void emit(Node node) {
+      switch (node.op) {
+        case CONST: {
+          int index = constants.indexOf(node.value);
+          if (index < 0) {
+            index = constants.size();
+            constants.add(node.value);
+          }
+          write(CONST);
+          write(index);
+          push(1);
+          break;
+        }
+        case LOAD_T:
+        case LOAD_B:
+        case LOAD_C:
+        case LOAD_D:
+          write(node.op);
+          push(1);
+          break;
+        case CONDITIONAL: {
+          emit(node.args[0]);
+          write(JUMP_IF_FALSE);
+          int elseJump = size;
+          write(0);
+          push(-1);
+          emit(node.args[1]);
+          write(JUMP);
+          int endJump = size;
+          write(0);
+          // Only one branch runs, so the else branch starts from the same depth as the then branch.
+          push(-1);
+          code[elseJump] = size - elseJump - 1;
+          emit(node.args[2]);
+          code[endJump] = size - endJump - 1;
+          break;
+        }
+        default:
+          for (Node arg : node.args) {
+            emit(arg);
+          }
+          write(node.op);
+          push(1 - node.args.length);
+          break;
+      }
+    }
+
+    private void write(int value) {
+      if (size == code.length) {
+        code = Arrays.copyOf(code, size * 2);
+      }
+      code[size++] = value;
+    }
+
+    private void push(int count) {
+      depth += count;
+      maxDepth = Math.max(maxDepth, depth);
+    }
+
+  }
+
+  /**
+   * A recursive descent parser. Operator precedence, from lowest to highest: conditional, ||, &&, equality, comparison,
+   * additive, multiplicative, unary, power.
+   */
+  private static final class Parser {
+
+    private final String source;
+    private int pos;
+    private int nesting;
+
+    Parser(String source) {
+      this.source = source;
+    }
+
+    Node parse() {
+      Node node = conditional();
+      skipWhitespace();
+      if (pos < source.length()) {
+        throw error("Unexpected '" + source.charAt(pos) + "'");
+      }
+      return node;
+    }
+
+    private Node conditional() {
+      enter();
+      Node node = or();
+      if (accept("?")) {
+        Node then = conditional();
+        expect(":");
+        Node otherwise = conditional();
+        node = node(CONDITIONAL, node, then, otherwise);
+      }
+      nesting--;
+      return node;
+    }
+
+    private Node or() {
+      Node node = and();
+      while (accept("||")) {
+        node = node(OR, node, and());
+      }
+      return node;
+    }
+
+    private Node and() {
+      Node node = equality();
+      while (accept("&&")) {
+        node = node(AND, node, equality());
+      }
+      return node;
+    }
+
+    private Node equality() {
+      Node node = comparison();
+      while (true) {
+        if (accept("==")) {
+          node = node(EQ, node, comparison());
+        } else if (accept("!=")) {
+          node = node(NE, node, comparison());
+        } else {
+          return node;
+        }
+      }
+    }
+
+    private Node comparison() {
+      Node node = additive();
+      while (true) {
+        if (accept("<=")) {
+          node = node(LE, node, additive());
+        } else if (accept(">=")) {
+          node = node(GE, node, additive());
+        } else if (accept("<")) {
+          node = node(LT, node, additive());
+        } else if (accept(">")) {
+          node = node(GT, node, additive());
+        } else {
+          return node;
+        }
+      }
+    }
+
+    private Node additive() {
+      Node node = multiplicative();
+      while (true) {
+        if (accept("+")) {
+          node = node(ADD, node, multiplicative());
+        } else if (accept("-")) {
+          node = node(SUB, node, multiplicative());
+        } else {
+          return node;
+        }
+      }
+    }
+
+    private Node multiplicative() {
+      Node node = unary();
+      while (true) {
+        if (accept("*")) {
+          node = node(MUL, node, unary());
+        } else if (accept("/")) {
+          node = node(DIV, node, unary());
+        } else if (accept("%")) {
+          node = node(MOD, node, unary());
+        } else {
+          return node;
+        }
+      }
+    }
+
+    private Node unary() {
+      if (accept("-")) {
+        return node(NEG, operand());
+      }
+      if (accept("+")) {
+        return operand();
+      }
+      if (accept("!")) {
+        return node(NOT, operand());
+      }
+      return power();
+    }
+
+    private Node power() {
+      Node base = primary();
+      if (accept("^")) {
+        // Right associative, and binds tighter than a unary minus on its left: -2^2 is -(2^2).
+        return node(POW, base, operand());
+      }
+      return base;
+    }
+
+    /**
+     * Parse the operand of a unary operator or the exponent of a power, one level deeper.
+     */
+    private Node operand() {
+      enter();
+      Node node = unary();
+      nesting--;
+      return node;
+    }
+
+    private Node primary() {
+      skipWhitespace();
+      if (pos >= source.length()) {
+        throw error("Unexpected end of expression");
+      }
+      char ch = source.charAt(pos);
+      if (accept("(")) {
+        Node node = conditional();
+        expect(")");
+        return node;
+      }
+      if (Character.isDigit(ch) || ch == '.') {
+        return number();
+      }
+      if (Character.isLetter(ch) || ch == '_') {
+        int start = pos;
+        String name = identifier();
+        switch (name) {
+          case "t":
+            return node(LOAD_T);
+          case "b":
+            return node(LOAD_B);
+          case "c":
+            return node(LOAD_C);
+          case "d":
+            return node(LOAD_D);
+          case "pi":
+            return Node.constant((float) Math.PI);
+          case "e":
+            return Node.constant((float) Math.E);
+        }
+        for (int i = 0; i < FUNCTIONS.length; i++) {
+          if (FUNCTIONS[i].equals(name)) {
+            return call(name, FUNCTION_OPS[i], start);
+          }
+        }
+        pos = start;
+        throw error("Unknown name '" + name + "'");
+      }
+      throw error("Unexpected '" + ch + "'");
+    }
+
+    private Node call(String name, int op, int start) {
+      expect("(");
+      List<Node> args = new ArrayList<>();
+      if (!accept(")")) {
+        do {
+          args.add(conditional());
+        } while (accept(","));
+        expect(")");
+      }
+      int arity = op == CLAMP ? 3 : op == POW || op == MIN || op == MAX || op == ATAN2 ? 2 : 1;
+      if (args.size() != arity) {
+        pos = start;
+        throw error(name + " takes " + arity + " argument" + (arity == 1 ? "" : "s") + ", got " + args.size());
+      }
+      return node(op, args.toArray(new Node[arity]));
+    }
+
+    private Node number() {
+      int start = pos;
+      while (pos < source.length() && (Character.isDigit(source.charAt(pos)) || source.charAt(pos) == '.')) {
+        pos++;
+      }
+      // An exponent, but not the constant e: 1e3 and 1e-3, but 2e and 2*e are not exponents.
+      if (pos < source.length() && (source.charAt(pos) == 'e' || source.charAt(pos) == 'E')) {
+        int exponent = pos + 1;
+        if (exponent < source.length() && (source.charAt(exponent) == '+' || source.charAt(exponent) == '-')) {
+          exponent++;
+        }
+        if (exponent < source.length() && Character.isDigit(source.charAt(exponent))) {
+          pos = exponent;
+          while (pos < source.length() && Character.isDigit(source.charAt(pos))) {
+            pos++;
+          }
+        }
+      }
+      try {
+        return Node.constant(Float.parseFloat(source.substring(start, pos)));
+      } catch (NumberFormatException e) {
+        pos = start;
+        throw error("Invalid number");
+      }
+    }
+
+    private String identifier() {
+      int start = pos;
+      while (pos < source.length()
+          && (Character.isLetterOrDigit(source.charAt(pos)) || source.charAt(pos) == '_')) {
+        pos++;
+      }
+      return source.substring(start, pos);
+    }
+
+    private boolean accept(String token) {
+      skipWhitespace();
+      if (source.startsWith(token, pos)) {
+        // Do not read the first character of a two character operator as a one character operator.
+        if (token.length() == 1 && pos + 1 < source.length()) {
+          char next = source.charAt(pos + 1);
+          if ((token.equals("<") || token.equals(">") || token.equals("!")) && next == '=') {
+            return false;
+          }
+        }
+        pos += token.length();
+        return true;
+      }
+      return false;
+    }
+
+    private void expect(String token) {
+      if (!accept(token)) {
+        throw error("Expected '" + token + "'");
+      }
+    }
+
+    private void skipWhitespace() {
+      while (pos < source.length() && Character.isWhitespace(source.charAt(pos))) {
+        pos++;
+      }
+    }
+
+    /**
+     * Count a level of recursion. Every recursive path of the parser goes through {@link #conditional()} or {@link
+     * #operand()}.
+     */
+    private void enter() {
+      if (++nesting > MAX_NESTING) {
+        throw error("Expression too deep");
+      }
+    }
+
+    private Node node(int op, Node... args) {
+      Node node = Node.of(op, args);
+      if (node.height > MAX_HEIGHT) {
+        throw error("Expression too deep");
+      }
+      return node;
+    }
+
+    private IllegalArgumentException error(String message) {
+      return new IllegalArgumentException(message + " at position " + pos + " in \"" + source + "\"");
+    }
+
+  }
+
+}
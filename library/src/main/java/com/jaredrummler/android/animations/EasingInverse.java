@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+/**
+ * A precomputed value-to-time table for a {@link Skill}. The table stores, for evenly spaced values, the earliest
+ * fraction at which the curve reaches that value. Lookups find the two table entries around a value, narrow them with a
+ * fixed number of bisection steps and interpolate the result, so every lookup takes constant time.
+ *
+ * @see Skill#inverse(float)
+ */
+final class EasingInverse {
+
+  /** The number of evenly spaced values stored in the table. */
+  private static final int VALUES = 256;
+
+  /** The number of fractions scanned when building the table. */
+  private static final int SCAN_STEPS = 4096;
+
+  /** The number of bisection steps used to find a crossing when building the table. */
+  private static final int BISECTIONS = 24;
+
+  /** The number of bisection steps used to refine a lookup. */
+  private static final int REFINEMENTS = 12;
+
+  private final Skill skill;
+  private final float[] times = new float[VALUES];
+  private final boolean monotonic;
+
+  EasingInverse(Skill skill) {
+    this.skill = skill;
+    // The running maximum of the curve. The first index where it reaches a value brackets the first crossing.
+    float[] peaks = new float[SCAN_STEPS + 1];
+    boolean monotonic = true;
+    float previous = skill.ease(0);
+    peaks[0] = previous;
+    for (int i = 1; i <= SCAN_STEPS; i++) {
+      float value = skill.ease((float) i / SCAN_STEPS);
+      if (value < previous) {
+        monotonic = false;
+      }
+      peaks[i] = Math.max(peaks[i - 1], value);
+      previous = value;
+    }
+    this.monotonic = monotonic;
+    for (int k = 0; k < VALUES; k++) {
+      times[k] = firstCrossing(peaks, (float) k / (VALUES - 1));
+    }
+  }
+
+  private float firstCrossing(float[] peaks, float value) {
+    int low = 0;
+    int high = SCAN_STEPS;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (peaks[mid] >= value) {
+        high = mid;
+      } else {
+        low = mid + 1;
+      }
+    }
+    if (low == 0) {
+      return 0;
+    }
+    float start = (float) (low - 1) / SCAN_STEPS;
+    float end = (float) low / SCAN_STEPS;
+    for (int i = 0; i < BISECTIONS; i++) {
+      float mid = (start + end) / 2;
+      if (skill.ease(mid) >= value) {
+        end = mid;
+      } else {
+        start = mid;
+      }
+    }
+    return end;
+  }
+
+  float inverse(float value) {
+    if (value <= 0) {
+      return times[0];
+    }
+    if (value >= 1) {
+      return times[VALUES - 1];
+    }
+    // The first crossing of a value lies between the first crossings of the table values around it.
+    int index = (int) (value * (VALUES - 1));
+    float low = times[index];
+    float high = times[index + 1];
+    for (int i = 0; i < REFINEMENTS; i++) {
+      float mid = (low + high) / 2;
+      if (skill.ease(mid) >= value) {
+        high = mid;
+      } else {
+        low = mid;
+      }
+    }
+    float lowValue = skill.ease(low);
+    float highValue = skill.ease(high);
+    if (highValue <= lowValue || lowValue >= value) {
+      return high;
+    }
+    return low + (high - low) * Math.min(1, (value - lowValue) / (highValue - lowValue));
+  }
+
+  boolean isMonotonic() {
+    return monotonic;
+  }
+
+}
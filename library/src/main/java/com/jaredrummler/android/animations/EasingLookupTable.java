@@ -0,0 +1,229 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * <p>A precomputed, normalized copy of a {@link Skill} curve. Values are sampled once at evenly spaced fractions and
+ * linearly interpolated afterwards, so evaluating the table never calls into {@link Math}.</p>
+ *
+ * <p>Fractions outside of [0, 1], for example from an interpolator that overshoots, are extrapolated along the first
+ * or last segment of the table, the same way keyframes are extrapolated by an {@link android.animation.ObjectAnimator}.
+ * The curve keeps moving in the direction it had at the edge instead of stopping there. The error bound of {@link
+ * #getMaxError()} only applies inside [0, 1].</p>
+ *
+ * <p>Tables are immutable and cached: each (Skill, samples) pair is only built once per process.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * EasingLookupTable table = Skill.ELASTIC_EASE_OUT.toLookupTable(256);
+ * Log.d(TAG, "max error: " + table.getMaxError());
+ * ObjectAnimator animator = ObjectAnimator.ofFloat(view, "translationY", 0, 100);
+ * animator.setEvaluator(table.getMethod(1200));
+ * </pre>
+ *
+ * @see Skill#toLookupTable(int)
+ */
+public final class EasingLookupTable {
+
+  /** The number of parts each segment is split into when searching for the largest error of a table. */
+  private static final int ERROR_PROBES = 16;
+
+  /** The number of times the interval around a peak of the error is narrowed down. */
+  private static final int ERROR_ITERATIONS = 64;
+
+  private static final Map<Skill, Map<Integer, EasingLookupTable>> CACHE = new EnumMap<>(Skill.class);
+
+  /**
+   * Get the cached lookup table for a {@link Skill}, building it if needed.
+   *
+   * @param skill
+   *     the curve to sample
+   * @param samples
+   *     the number of samples, including both endpoints. Must be at least 2.
+   * @return the lookup table
+   */
+  static EasingLookupTable obtain(Skill skill, int samples) {
+    if (samples < 2) {
+      throw new IllegalArgumentException("samples must be at least 2, was " + samples);
+    }
+    synchronized (CACHE) {
+      Map<Integer, EasingLookupTable> tables = CACHE.get(skill);
+      if (tables == null) {
+        tables = new HashMap<>();
+        CACHE.put(skill, tables);
+      }
+      EasingLookupTable table = tables.get(samples);
+      if (table == null) {
+        table = new EasingLookupTable(skill, samples);
+        tables.put(samples, table);
+      }
+      return table;
+    }
+  }
+
+  private final Skill skill;
+  private final float[] values;
+  /** Measured on the first call to {@link #getMaxError()}, or -1. */
+  private volatile float maxError = -1;
+
+  private EasingLookupTable(Skill skill, int samples) {
+    int last = samples - 1;
+    this.skill = skill;
+    this.values = new float[samples];
+    for (int i = 0; i < samples; i++) {
+      values[i] = skill.ease((float) i / last);
+    }
+  }
+
+  /**
+   * Search every segment for the largest error. This takes about 20 times longer than sampling the curve, so it is
+   * only done when the error is asked for.
+   */
+  private float measureError() {
+    int last = values.length - 1;
+    float error = 0;
+    float largest = 0;
+    for (float value : values) {
+      largest = Math.max(largest, Math.abs(value));
+    }
+    float[] probes = new float[ERROR_PROBES + 1];
+    float[] errors = new float[ERROR_PROBES + 1];
+    for (int i = 0; i < last; i++) {
+      // Just inside the samples, for curves that jump there, such as EXPO_EASE_IN right after 0.
+      probes[0] = Math.nextUp((float) i / last);
+      probes[ERROR_PROBES] = Math.nextAfter((float) (i + 1) / last, 0);
+      for (int j = 1; j < ERROR_PROBES; j++) {
+        probes[j] = (i + (float) j / ERROR_PROBES) / last;
+      }
+      for (int j = 0; j <= ERROR_PROBES; j++) {
+        errors[j] = errorAt(probes[j]);
+        error = Math.max(error, errors[j]);
+      }
+      // Every probe that is larger than its neighbours is close to a peak of the error, which can lie between the
+      // probes, for example at a corner of a BOUNCE curve. Find the top of each peak.
+      for (int j = 1; j < ERROR_PROBES; j++) {
+        if (errors[j] >= errors[j - 1] && errors[j] >= errors[j + 1]) {
+          error = Math.max(error, peak(probes[j - 1], probes[j + 1]));
+        }
+      }
+    }
+    // The table and the curve each round their result, so the error at a fraction next to a peak can be a little
+    // larger than at the peak itself. The CIRC curves lose a few more bits close to their ends.
+    return error + 4 * Math.ulp(Math.max(largest, 1));
+  }
+
+  /**
+   * Find the largest error between two fractions with a ternary search, assuming the error has a single peak there.
+   */
+  private float peak(float low, float high) {
+    float error = 0;
+    for (int i = 0; i < ERROR_ITERATIONS && Math.nextUp(low) < high; i++) {
+      float third = (high - low) / 3;
+      float left = low + third;
+      float right = high - third;
+      float leftError = errorAt(left);
+      float rightError = errorAt(right);
+      error = Math.max(error, Math.max(leftError, rightError));
+      if (leftError < rightError) {
+        low = left;
+      } else {
+        high = right;
+      }
+    }
+    return Math.max(error, Math.max(errorAt(low), errorAt(high)));
+  }
+
+  private float errorAt(float fraction) {
+    return Math.abs(skill.ease(fraction) - ease(fraction));
+  }
+
+  /**
+   * Get the eased value for a fraction.
+   *
+   * @param fraction
+   *     the elapsed fraction of the animation. Values outside of [0, 1] are extrapolated from the first or last
+   *     segment.
+   * @return the eased fraction, where 0 is the start value and 1 is the end value.
+   */
+  public float ease(float fraction) {
+    int last = values.length - 1;
+    if (fraction <= 0) {
+      return values[0] + (values[1] - values[0]) * (fraction * last);
+    }
+    if (fraction >= 1) {
+      return values[last] + (values[last] - values[last - 1]) * ((fraction - 1) * last);
+    }
+    float position = fraction * last;
+    int index = (int) position;
+    float start = values[index];
+    return start + (values[index + 1] - start) * (position - index);
+  }
+
+  /**
+   * Get an {@link Skill.EasingMethod} backed by this table.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @return a new {@link Skill.EasingMethod}
+   */
+  public Skill.EasingMethod getMethod(float duration) {
+    return new Skill.EasingMethod(duration) {
+
+      @Override public float calculate(float t, float b, float c, float d) {
+        return c * ease(t / d) + b;
+      }
+    };
+  }
+
+  /**
+   * @return the largest absolute difference between this table and {@link Skill#ease(float)} for a fraction in [0, 1].
+   * It is found by a search: each segment is probed at 17 points, including right next to its samples, and every
+   * local maximum among the probes is narrowed down to the peak of the error. Four units in the last place of the
+   * largest value are added for the float rounding of both results. It is an estimate, not a proof: a peak narrower
+   * than a sixteenth of a segment could be missed, which does not happen for the {@link Skill} curves. The search runs
+   * on the first call.
+   */
+  public float getMaxError() {
+    float error = maxError;
+    if (error < 0) {
+      // Tables are shared between threads. Measuring twice gives the same result, so a race is harmless.
+      error = measureError();
+      maxError = error;
+    }
+    return error;
+  }
+
+  /**
+   * @return the number of samples in this table, including both endpoints.
+   */
+  public int getSamples() {
+    return values.length;
+  }
+
+  /**
+   * @return the {@link Skill} this table was sampled from.
+   */
+  public Skill getSkill() {
+    return skill;
+  }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+/**
+ * Float approximations of the transcendental functions used by {@link Skill}. They trade accuracy that is far below a
+ * pixel for cheaper, branch-light polynomial evaluation.
+ */
+final class FastMath {
+
+  private static final float PI = (float) Math.PI;
+  private static final float HALF_PI = (float) (Math.PI / 2);
+  private static final float TWO_PI = (float) (Math.PI * 2);
+  private static final float INV_TWO_PI = (float) (1 / (Math.PI * 2));
+
+  private FastMath() {
+    throw new AssertionError("no instances");
+  }
+
+  /**
+   * Approximates {@code 2^x}. The relative error is below 5e-7 for {@code x} in [-126, 127].
+   *
+   * @param x
+   *     the exponent
+   * @return 2 raised to the power of x
+   */
+  static float exp2(float x) {
+    if (x < -126) {
+      return 0;
+    }
+    if (x > 127) {
+      return Float.POSITIVE_INFINITY;
+    }
+    int i = Math.round(x);
+    float f = x - i;
+    // Taylor series of e^(f * ln(2)) for f in [-0.5, 0.5]
+    float p = 1 + f * (0.6931472f + f * (0.2402265f + f * (0.05550411f + f * (0.009618129f
+        + f * (0.001333356f + f * 0.0001540353f)))));
+    return p * Float.intBitsToFloat((i + 127) << 23);
+  }
+
+  /**
+   * Approximates {@code sin(x)}. The absolute error is below 4e-6.
+   *
+   * @param x
+   *     an angle, in radians
+   * @return the sine of the angle
+   */
+  static float sin(float x) {
+    // Reduce to [-PI, PI]
+    x -= TWO_PI * Math.round(x * INV_TWO_PI);
+    // Reduce to [-PI/2, PI/2]
+    if (x > HALF_PI) {
+      x = PI - x;
+    } else if (x < -HALF_PI) {
+      x = -PI - x;
+    }
+    float x2 = x * x;
+    // Taylor series up to x^9
+    return x * (1 + x2 * (-1 / 6f + x2 * (1 / 120f + x2 * (-1 / 5040f + x2 * (1 / 362880f)))));
+  }
+
+  /**
+   * Approximates {@code cos(x)}. The absolute error is below 4e-6.
+   *
+   * @param x
+   *     an angle, in radians
+   * @return the cosine of the angle
+   */
+  static float cos(float x) {
+    return sin(x + HALF_PI);
+  }
+
+}
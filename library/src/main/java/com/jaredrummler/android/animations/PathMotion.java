@@ -0,0 +1,242 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.animation.ValueAnimator;
+import android.graphics.Path;
+import android.graphics.PathMeasure;
+import android.view.View;
+import android.view.animation.LinearInterpolator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * <p>Moves a view along a {@link Path}. The path is measured once with {@link PathMeasure} and sampled at evenly spaced
+ * distances into an arc-length table of positions and tangents. Looking up a point on the path is then a constant-time
+ * table interpolation instead of a {@link PathMeasure#getPosTan(float, float[], float[])} call on every frame.</p>
+ *
+ * <p>Tables are cached by {@link Path} identity. A path must not be modified after it was measured; call {@link
+ * #invalidate(Path)} if it is.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * Path path = new Path();
+ * path.moveTo(0, 0);
+ * path.quadTo(200, -300, 400, 0);
+ * PathMotion.of(path).animate(view, Skill.QUAD_EASE_IN_OUT, true)
+ *     .setDuration(1000)
+ *     .start();
+ * </pre>
+ *
+ * @see Technique.Composer#followPath(Path, Skill)
+ */
+public final class PathMotion {
+
+  /** The target distance, in pixels, between two samples in the table. */
+  private static final float SAMPLE_SPACING = 1f;
+
+  private static final int MIN_SAMPLES = 32;
+
+  private static final int MAX_SAMPLES = 4096;
+
+  private static final Map<Path, PathMotion> CACHE = new WeakHashMap<>();
+
+  /**
+   * Get the cached {@link PathMotion} for a path, measuring the path if needed.
+   *
+   * @param path
+   *     the path. It must not be modified while it is cached.
+   * @return the {@link PathMotion}
+   */
+  public static PathMotion of(Path path) {
+    synchronized (CACHE) {
+      PathMotion motion = CACHE.get(path);
+      if (motion == null) {
+        motion = new PathMotion(path);
+        CACHE.put(path, motion);
+      }
+      return motion;
+    }
+  }
+
+  /**
+   * Remove a path from the cache, so that it is measured again the next time it is used.
+   *
+   * @param path
+   *     the path that was modified
+   */
+  public static void invalidate(Path path) {
+    synchronized (CACHE) {
+      CACHE.remove(path);
+    }
+  }
+
+  private final float length;
+  /** Samples i is at distance length * i / (samples - 1). Stored as x, y, tangent x, tangent y. */
+  private final float[] table;
+  private final int samples;
+
+  private PathMotion(Path path) {
+    List<Float> lengths = new ArrayList<>();
+    PathMeasure measure = new PathMeasure(path, false);
+    float total = 0;
+    do {
+      float contour = measure.getLength();
+      lengths.add(contour);
+      total += contour;
+    } while (measure.nextContour());
+    this.length = total;
+    this.samples = Math.max(MIN_SAMPLES, Math.min(MAX_SAMPLES, (int) Math.ceil(total / SAMPLE_SPACING) + 1));
+    this.table = new float[samples * 4];
+    float[] pos = new float[2];
+    float[] tan = new float[2];
+    measure.setPath(path, false);
+    int contour = 0;
+    float contourStart = 0;
+    for (int i = 0; i < samples; i++) {
+      float distance = total * i / (samples - 1);
+      // Samples are in increasing order, so the contours are walked only once.
+      while (contour < lengths.size() - 1 && distance > contourStart + lengths.get(contour)) {
+        contourStart += lengths.get(contour++);
+        measure.nextContour();
+      }
+      if (measure.getPosTan(distance - contourStart, pos, tan)) {
+        table[i * 4] = pos[0];
+        table[i * 4 + 1] = pos[1];
+        table[i * 4 + 2] = tan[0];
+        table[i * 4 + 3] = tan[1];
+      }
+    }
+  }
+
+  /**
+   * Get the position and tangent at a point along the path.
+   *
+   * @param progress
+   *     the distance along the path, where 0 is the start of the path and 1 is the end. Values outside of [0, 1] are
+   *     clamped.
+   * @param pos
+   *     if not {@code null}, receives the x and y coordinates
+   * @param tan
+   *     if not {@code null}, receives the x and y components of the unit tangent
+   */
+  public void getPosTan(float progress, float[] pos, float[] tan) {
+    int index;
+    float weight;
+    if (progress <= 0) {
+      index = 0;
+      weight = 0;
+    } else if (progress >= 1) {
+      index = samples - 2;
+      weight = 1;
+    } else {
+      float position = progress * (samples - 1);
+      index = (int) position;
+      weight = position - index;
+    }
+    int offset = index * 4;
+    if (pos != null) {
+      pos[0] = lerp(table[offset], table[offset + 4], weight);
+      pos[1] = lerp(table[offset + 1], table[offset + 5], weight);
+    }
+    if (tan != null) {
+      float x = lerp(table[offset + 2], table[offset + 6], weight);
+      float y = lerp(table[offset + 3], table[offset + 7], weight);
+      float norm = (float) Math.sqrt(x * x + y * y);
+      if (norm > 0) {
+        x /= norm;
+        y /= norm;
+      }
+      tan[0] = x;
+      tan[1] = y;
+    }
+  }
+
+  /**
+   * Get the direction of the path at a point, for example to rotate a view along the path.
+   *
+   * @param progress
+   *     the distance along the path, from 0 to 1
+   * @return the angle of the tangent, in degrees
+   */
+  public float getAngle(float progress) {
+    float[] tan = new float[2];
+    getPosTan(progress, null, tan);
+    return (float) Math.toDegrees(Math.atan2(tan[1], tan[0]));
+  }
+
+  private static float lerp(float start, float end, float weight) {
+    return start + (end - start) * weight;
+  }
+
+  /**
+   * @return the total length of all contours of the path.
+   */
+  public float getLength() {
+    return length;
+  }
+
+  /**
+   * Create an animator that moves a view along the path by setting its translation.
+   *
+   * @param target
+   *     the view to move
+   * @param skill
+   *     the curve applied to the progress along the path
+   * @return a new {@link ValueAnimator}
+   */
+  public ValueAnimator animate(View target, Skill skill) {
+    return animate(target, skill, false);
+  }
+
+  /**
+   * Create an animator that moves a view along the path by setting its translation.
+   *
+   * @param target
+   *     the view to move
+   * @param skill
+   *     the curve applied to the progress along the path
+   * @param rotate
+   *     {@code true} to also rotate the view to follow the direction of the path
+   * @return a new {@link ValueAnimator}
+   */
+  public ValueAnimator animate(final View target, final Skill skill, final boolean rotate) {
+    ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+    // The curve is applied in the update listener, so it is kept when the animator is played in an AnimatorSet.
+    animator.setInterpolator(new LinearInterpolator());
+    animator.addUpdateListener(new ValueAnimator.AnimatorUpdateListener() {
+
+      private final float[] pos = new float[2];
+      private final float[] tan = new float[2];
+
+      @Override public void onAnimationUpdate(ValueAnimator animation) {
+        getPosTan(skill.ease(animation.getAnimatedFraction()), pos, rotate ? tan : null);
+        target.setTranslationX(pos[0]);
+        target.setTranslationY(pos[1]);
+        if (rotate) {
+          target.setRotation((float) Math.toDegrees(Math.atan2(tan[1], tan[0])));
+        }
+      }
+    });
+    return animator;
+  }
+
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.view.animation.Interpolator;
+
+/**
+ * <p>Double precision reference implementations of every {@link Skill} curve, and a way to measure how far any
+ * evaluator strays from them. Use this to check a faster evaluation path, such as {@link Skill#easeApprox(float)}, a
+ * {@link EasingLookupTable} or a {@link EasingBezierFit}, before switching to it.</p>
+ *
+ * <p>The reference curves follow the library's own definitions, including BACK_EASE_IN_OUT, which has always used the
+ * same formula as BACK_EASE_OUT. Nothing here depends on a device, so the checks can run in a plain JVM.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * for (Skill skill : Skill.values()) {
+ *   ReferenceCurves.ErrorReport report = ReferenceCurves.measure(skill, skill.asApproximateInterpolator(), 10001);
+ *   if (!report.isWithin(skill.getApproximationError() + 1e-6f)) {
+ *     throw new AssertionError(report);
+ *   }
+ * }
+ * </pre>
+ */
+public final class ReferenceCurves {
+
+  private ReferenceCurves() {
+    throw new AssertionError("no instances");
+  }
+
+  /**
+   * Ease a normalized fraction in double precision.
+   *
+   * @param skill
+   *     the curve
+   * @param t
+   *     the elapsed fraction of the animation, from 0 to 1
+   * @return the eased fraction, where 0 is the start value and 1 is the end value
+   */
+  public static double ease(Skill skill, double t) {
+    switch (skill) {
+      case BACK_EASE_IN:
+        return t * t * ((1.70158 + 1) * t - 1.70158);
+      case BACK_EASE_IN_OUT:
+      case BACK_EASE_OUT:
+        t -= 1;
+        return t * t * ((1.70158 + 1) * t + 1.70158) + 1;
+      case BOUNCE_EASE_IN:
+        return 1 - ease(Skill.BOUNCE_EASE_OUT, 1 - t);
+      case BOUNCE_EASE_IN_OUT:
+        if (t < .5) {
+          return ease(Skill.BOUNCE_EASE_IN, t * 2) * .5;
+        }
+        return ease(Skill.BOUNCE_EASE_OUT, t * 2 - 1) * .5 + .5;
+      case BOUNCE_EASE_OUT:
+        if (t < 1 / 2.75) {
+          return 7.5625 * t * t;
+        } else if (t < 2 / 2.75) {
+          t -= 1.5 / 2.75;
+          return 7.5625 * t * t + .75;
+        } else if (t < 2.5 / 2.75) {
+          t -= 2.25 / 2.75;
+          return 7.5625 * t * t + .9375;
+        } else {
+          t -= 2.625 / 2.75;
+          return 7.5625 * t * t + .984375;
+        }
+      case CIRC_EASE_IN:
+        return 1 - Math.sqrt(1 - t * t);
+      case CIRC_EASE_IN_OUT:
+        t *= 2;
+        if (t < 1) {
+          return -.5 * (Math.sqrt(1 - t * t) - 1);
+        }
+        t -= 2;
+        return .5 * (Math.sqrt(1 - t * t) + 1);
+      case CIRC_EASE_OUT:
+        t -= 1;
+        return Math.sqrt(1 - t * t);
+      case ELASTIC_EASE_IN: {
+        if (t == 0 || t == 1) {
+          return t;
+        }
+        double p = .3;
+        double s = p / 4;
+        t -= 1;
+        return -(Math.pow(2, 10 * t) * Math.sin((t - s) * (2 * Math.PI) / p));
+      }
+      case ELASTIC_EASE_IN_OUT: {
+        if (t == 0 || t == 1) {
+          return t;
+        }
+        double p = .3 * 1.5;
+        double s = p / 4;
+        t = t * 2 - 1;
+        if (t < 0) {
+          return -.5 * (Math.pow(2, 10 * t) * Math.sin((t - s) * (2 * Math.PI) / p));
+        }
+        return Math.pow(2, -10 * t) * Math.sin((t - s) * (2 * Math.PI) / p) * .5 + 1;
+      }
+      case ELASTIC_EASE_OUT: {
+        if (t == 0 || t == 1) {
+          return t;
+        }
+        double p = .3;
+        double s = p / 4;
+        return Math.pow(2, -10 * t) * Math.sin((t - s) * (2 * Math.PI) / p) + 1;
+      }
+      case EXPO_EASE_IN:
+        return t == 0 ? 0 : Math.pow(2, 10 * (t - 1));
+      case EXPO_EASE_IN_OUT:
+        if (t == 0 || t == 1) {
+          return t;
+        }
+        t *= 2;
+        if (t < 1) {
+          return .5 * Math.pow(2, 10 * (t - 1));
+        }
+        return .5 * (2 - Math.pow(2, -10 * (t - 1)));
+      case EXPO_EASE_OUT:
+        return t == 1 ? 1 : 1 - Math.pow(2, -10 * t);
+      case LINEAR:
+        return t;
+      case QUAD_EASE_IN:
+        return t * t;
+      case QUAD_EASE_IN_OUT:
+        t *= 2;
+        if (t < 1) {
+          return .5 * t * t;
+        }
+        t -= 1;
+        return -.5 * (t * (t - 2) - 1);
+      case QUAD_EASE_OUT:
+        return -t * (t - 2);
+      case QUINT_EASE_IN:
+        return t * t * t * t * t;
+      case QUINT_EASE_IN_OUT:
+        t *= 2;
+        if (t < 1) {
+          return .5 * t * t * t * t * t;
+        }
+        t -= 2;
+        return .5 * (t * t * t * t * t + 2);
+      case QUINT_EASE_OUT:
+        t -= 1;
+        return t * t * t * t * t + 1;
+      case SINE_EASE_IN:
+        return 1 - Math.cos(t * (Math.PI / 2));
+      case SINE_EASE_IN_OUT:
+        return -.5 * (Math.cos(Math.PI * t) - 1);
+      case SINE_EASE_OUT:
+        return Math.sin(t * (Math.PI / 2));
+      default:
+        throw new IllegalArgumentException("Unknown skill: " + skill);
+    }
+  }
+
+  /**
+   * Measure a normalized evaluator against the reference curve on an evenly spaced grid of fractions. The endpoint
+   * errors check that the evaluator returns exactly 0 at fraction 0 and 1 at fraction 1.
+   *
+   * @param skill
+   *     the curve the evaluator implements
+   * @param evaluator
+   *     the evaluator, for example {@link Skill#asInterpolator()} or {@link EasingCurve}
+   * @param samples
+   *     the number of fractions to check, including 0 and 1. Must be at least 2.
+   * @return the {@link ErrorReport}
+   */
+  public static ErrorReport measure(Skill skill, Interpolator evaluator, int samples) {
+    checkSamples(samples);
+    double maxError = 0;
+    float worst = 0;
+    for (int i = 0; i < samples; i++) {
+      float t = (float) i / (samples - 1);
+      double error = Math.abs(evaluator.getInterpolation(t) - ease(skill, t));
+      if (error > maxError) {
+        maxError = error;
+        worst = t;
+      }
+    }
+    return new ErrorReport(skill, samples, maxError, worst,
+        Math.abs(evaluator.getInterpolation(0)), Math.abs(evaluator.getInterpolation(1) - 1));
+  }
+
+  /**
+   * Measure an {@link Skill.EasingMethod} against the reference curve on an evenly spaced grid of fractions. Errors
+   * are divided by the change in value, so they are comparable with a normalized curve. The endpoint errors check that
+   * the method returns exactly {@code b} at time 0 and {@code b + c} at the full duration.
+   *
+   * @param skill
+   *     the curve the method implements
+   * @param method
+   *     the method, for example from {@link Skill#getMethod(float)}
+   * @param start
+   *     the start value
+   * @param end
+   *     the end value. Must differ from the start value.
+   * @param samples
+   *     the number of fractions to check, including 0 and 1. Must be at least 2.
+   * @return the {@link ErrorReport}
+   */
+  public static ErrorReport measure(Skill skill, Skill.EasingMethod method, float start, float end, int samples) {
+    checkSamples(samples);
+    if (start == end) {
+      throw new IllegalArgumentException("start and end must differ");
+    }
+    float d = method.duration;
+    double change = (double) end - start;
+    double maxError = 0;
+    float worst = 0;
+    for (int i = 0; i < samples; i++) {
+      float t = (float) i / (samples - 1);
+      double expected = start + change * ease(skill, t);
+      double error = Math.abs(method.calculate(t * d, start, end - start, d) - expected) / Math.abs(change);
+      if (error > maxError) {
+        maxError = error;
+        worst = t;
+      }
+    }
+    // The endpoints are compared in float, with the end value computed the way calculate() receives it: b + c.
+    float b = start;
+    float c = end - start;
+    double startError = Math.abs(method.calculate(0, b, c, d) - b) / Math.abs(change);
+    double endError = Math.abs(method.calculate(d, b, c, d) - (b + c)) / Math.abs(change);
+    return new ErrorReport(skill, samples, maxError, worst, startError, endError);
+  }
+
+  private static void checkSamples(int samples) {
+    if (samples < 2) {
+      throw new IllegalArgumentException("samples must be at least 2, was " + samples);
+    }
+  }
+
+  /**
+   * The result of comparing an evaluator with a reference curve. All errors are absolute differences on a normalized
+   * curve where the start value is 0 and the end value is 1.
+   */
+  public static final class ErrorReport {
+
+    private final Skill skill;
+    private final int samples;
+    private final double maxError;
+    private final float maxErrorFraction;
+    private final double startError;
+    private final double endError;
+
+    ErrorReport(Skill skill, int samples, double maxError, float maxErrorFraction, double startError,
+                double endError) {
+      this.skill = skill;
+      this.samples = samples;
+      this.maxError = maxError;
+      this.maxErrorFraction = maxErrorFraction;
+      this.startError = startError;
+      this.endError = endError;
+    }
+
+    /**
+     * Check the report against an error budget.
+     *
+     * @param budget
+     *     the largest acceptable error
+     * @return {@code true} if the max error is within the budget and both endpoints are exact.
+     */
+    public boolean isWithin(double budget) {
+      return maxError <= budget && isEndpointExact();
+    }
+
+    /**
+     * @return {@code true} if the evaluator returned exactly the start value at 0 and the end value at 1.
+     */
+    public boolean isEndpointExact() {
+      return startError == 0 && endError == 0;
+    }
+
+    /**
+     * @return the {@link Skill} that was measured.
+     */
+    public Skill getSkill() {
+      return skill;
+    }
+
+    /**
+     * @return the number of fractions that were checked.
+     */
+    public int getSamples() {
+      return samples;
+    }
+
+    /**
+     * @return the largest error over all checked fractions.
+     */
+    public double getMaxError() {
+      return maxError;
+    }
+
+    /**
+     * @return the fraction where the largest error was found.
+     */
+    public float getMaxErrorFraction() {
+      return maxErrorFraction;
+    }
+
+    /**
+     * @return the error at fraction 0.
+     */
+    public double getStartError() {
+      return startError;
+    }
+
+    /**
+     * @return the error at fraction 1.
+     */
+    public double getEndError() {
+      return endError;
+    }
+
+    @Override public String toString() {
+      return skill + ": max error " + maxError + " at " + maxErrorFraction + ", start error " + startError
+          + ", end error " + endError + " (" + samples + " samples)";
+    }
+
+  }
+
+}
@@ -20,9 +20,15 @@ import android.animation.ObjectAnimator;
 import android.animation.PropertyValuesHolder;
 import android.animation.TypeEvaluator;
 import android.animation.ValueAnimator;
+import android.graphics.Path;
+import android.graphics.PointF;
+import android.view.View;
+import android.view.animation.Interpolator;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * <p>Android easing functions. An animation collection to help make animation easier.</p>
@@ -81,13 +87,12 @@ public enum Skill {
         }
       };
     }
-
   },
   BOUNCE_EASE_IN {
     @Override public EasingMethod getMethod(float duration) {
       return new EasingMethod(duration) {
 
-        private final EasingMethod bounceEaseOut = BOUNCE_EASE_OUT.getMethod(duration);
+        private final EasingMethod bounceEaseOut = BOUNCE_EASE_OUT.getSharedMethod(duration);
 
         @Override public float calculate(float t, float b, float c, float d) {
           return c - bounceEaseOut.calculate(d - t, 0, c, d) + b;
@@ -99,9 +104,9 @@ public enum Skill {
     @Override public EasingMethod getMethod(float duration) {
       return new EasingMethod(duration) {
 
-        private final EasingMethod bounceEaseOut = BOUNCE_EASE_OUT.getMethod(duration);
+        private final EasingMethod bounceEaseOut = BOUNCE_EASE_OUT.getSharedMethod(duration);
 
-        private final EasingMethod bounceEaseIn = BOUNCE_EASE_IN.getMethod(duration);
+        private final EasingMethod bounceEaseIn = BOUNCE_EASE_IN.getSharedMethod(duration);
 
         @Override public float calculate(float t, float b, float c, float d) {
           if (t < d / 2) {
@@ -183,6 +188,15 @@ public enum Skill {
         }
       };
     }
+
+    @Override public float easeApprox(float t) {
+      if (t == 0 || t == 1) {
+        return t;
+      }
+      float p = .3f;
+      float s = p / 4;
+      return -(FastMath.exp2(10 * (t -= 1)) * FastMath.sin((t - s) * (2 * (float) Math.PI) / p));
+    }
   },
   ELASTIC_EASE_IN_OUT {
     @Override public EasingMethod getMethod(float duration) {
@@ -208,6 +222,18 @@ public enum Skill {
         }
       };
     }
+
+    @Override public float easeApprox(float t) {
+      if (t == 0 || t == 1) {
+        return t;
+      }
+      float p = .3f * 1.5f;
+      float s = p / 4;
+      if ((t *= 2) < 1) {
+        return -.5f * (FastMath.exp2(10 * (t -= 1)) * FastMath.sin((t - s) * (2 * (float) Math.PI) / p));
+      }
+      return FastMath.exp2(-10 * (t -= 1)) * FastMath.sin((t - s) * (2 * (float) Math.PI) / p) * .5f + 1;
+    }
   },
   ELASTIC_EASE_OUT {
     @Override public EasingMethod getMethod(float duration) {
@@ -228,6 +254,15 @@ public enum Skill {
         }
       };
     }
+
+    @Override public float easeApprox(float t) {
+      if (t == 0 || t == 1) {
+        return t;
+      }
+      float p = .3f;
+      float s = p / 4;
+      return FastMath.exp2(-10 * t) * FastMath.sin((t - s) * (2 * (float) Math.PI) / p) + 1;
+    }
   },
   EXPO_EASE_IN {
     @Override public EasingMethod getMethod(float duration) {
@@ -238,6 +273,10 @@ public enum Skill {
         }
       };
     }
+
+    @Override public float easeApprox(float t) {
+      return (t == 0) ? 0 : FastMath.exp2(10 * (t - 1));
+    }
   },
   EXPO_EASE_IN_OUT {
     @Override public EasingMethod getMethod(float duration) {
@@ -257,6 +296,16 @@ public enum Skill {
         }
       };
     }
+
+    @Override public float easeApprox(float t) {
+      if (t == 0 || t == 1) {
+        return t;
+      }
+      if ((t *= 2) < 1) {
+        return .5f * FastMath.exp2(10 * (t - 1));
+      }
+      return .5f * (-FastMath.exp2(-10 * --t) + 2);
+    }
   },
   EXPO_EASE_OUT {
     @Override public EasingMethod getMethod(float duration) {
@@ -267,6 +316,10 @@ public enum Skill {
         }
       };
     }
+
+    @Override public float easeApprox(float t) {
+      return (t == 1) ? 1 : -FastMath.exp2(-10 * t) + 1;
+    }
   },
   LINEAR {
     @Override public EasingMethod getMethod(float duration) {
@@ -353,6 +406,13 @@ public enum Skill {
         }
       };
     }
+
+    @Override public float easeApprox(float t) {
+      if (t == 0 || t == 1) {
+        return t;
+      }
+      return -FastMath.cos(t * ((float) Math.PI / 2)) + 1;
+    }
   },
   SINE_EASE_IN_OUT {
     @Override public EasingMethod getMethod(float duration) {
@@ -363,6 +423,13 @@ public enum Skill {
         }
       };
     }
+
+    @Override public float easeApprox(float t) {
+      if (t == 0 || t == 1) {
+        return t;
+      }
+      return -.5f * (FastMath.cos((float) Math.PI * t) - 1);
+    }
   },
   SINE_EASE_OUT {
     @Override public EasingMethod getMethod(float duration) {
@@ -373,8 +440,537 @@ public enum Skill {
         }
       };
     }
+
+    @Override public float easeApprox(float t) {
+      if (t == 0 || t == 1) {
+        return t;
+      }
+      return FastMath.sin(t * ((float) Math.PI / 2));
+    }
   };
 
+  // Curve ids for the static easing kernel. These must match the declaration order of the constants above.
+  private static final int BACK_EASE_IN_ID = 0;
+  private static final int BACK_EASE_IN_OUT_ID = 1;
+  private static final int BACK_EASE_OUT_ID = 2;
+  private static final int BOUNCE_EASE_IN_ID = 3;
+  private static final int BOUNCE_EASE_IN_OUT_ID = 4;
+  private static final int BOUNCE_EASE_OUT_ID = 5;
+  private static final int CIRC_EASE_IN_ID = 6;
+  private static final int CIRC_EASE_IN_OUT_ID = 7;
+  private static final int CIRC_EASE_OUT_ID = 8;
+  private static final int ELASTIC_EASE_IN_ID = 9;
+  private static final int ELASTIC_EASE_IN_OUT_ID = 10;
+  private static final int ELASTIC_EASE_OUT_ID = 11;
+  private static final int EXPO_EASE_IN_ID = 12;
+  private static final int EXPO_EASE_IN_OUT_ID = 13;
+  private static final int EXPO_EASE_OUT_ID = 14;
+  private static final int LINEAR_ID = 15;
+  private static final int QUAD_EASE_IN_ID = 16;
+  private static final int QUAD_EASE_IN_OUT_ID = 17;
+  private static final int QUAD_EASE_OUT_ID = 18;
+  private static final int QUINT_EASE_IN_ID = 19;
+  private static final int QUINT_EASE_IN_OUT_ID = 20;
+  private static final int QUINT_EASE_OUT_ID = 21;
+  private static final int SINE_EASE_IN_ID = 22;
+  private static final int SINE_EASE_IN_OUT_ID = 23;
+  private static final int SINE_EASE_OUT_ID = 24;
+
+  private static volatile boolean durationCoupled = true;
+
+  /** The maximum number of shared {@link EasingMethod}s kept per {@link Skill}. */
+  private static final int MAX_SHARED_METHODS = 16;
+
+  private final Map<Float, EasingMethod> sharedMethods = new LinkedHashMap<Float, EasingMethod>(16, 0.75f, true) {
+
+    @Override protected boolean removeEldestEntry(Map.Entry<Float, EasingMethod> eldest) {
+      return size() > MAX_SHARED_METHODS;
+    }
+  };
+
+  private Interpolator interpolator;
+  private Interpolator approximateInterpolator;
+  private EasingCurve curve;
+  private ColorEasing colorEasing;
+  private EasingInverse inverse;
+
+  /**
+   * <p>Ease a normalized fraction. The result has the same shape for any duration, where 0 is the start value and 1 is
+   * the end value.</p>
+   *
+   * <p>{@link EasingMethod#calculate(float, float, float, float)} computes the curve from the absolute time and duration
+   * of the animation, so its float rounding differs with the duration. This method only depends on the fraction, so
+   * it is safe to cache, tabulate and share across animators.</p>
+   *
+   * @param t
+   *     the elapsed fraction of the animation, from 0 to 1
+   * @return the eased fraction
+   */
+  public final float ease(float t) {
+    return ease(ordinal(), t);
+  }
+
+  /**
+   * <p>Ease a normalized fraction with the curve that has the given id. This is the same as {@link #ease(float)}, but
+   * it is a static method with a single switch over every curve, so the call can be inlined even when many different
+   * curves are evaluated from the same call site.</p>
+   *
+   * @param curveId
+   *     the id of the curve, from {@link #getCurveId()}
+   * @param t
+   *     the elapsed fraction of the animation, from 0 to 1
+   * @return the eased fraction
+   * @throws IllegalArgumentException
+   *     if the id does not belong to a curve
+   */
+  public static float ease(int curveId, float t) {
+    switch (curveId) {
+      case BACK_EASE_IN_ID:
+        return backEaseIn(t);
+      case BACK_EASE_IN_OUT_ID:
+        return backEaseInOut(t);
+      case BACK_EASE_OUT_ID:
+        return backEaseOut(t);
+      case BOUNCE_EASE_IN_ID:
+        return bounceEaseIn(t);
+      case BOUNCE_EASE_IN_OUT_ID:
+        return bounceEaseInOut(t);
+      case BOUNCE_EASE_OUT_ID:
+        return bounceEaseOut(t);
+      case CIRC_EASE_IN_ID:
+        return circEaseIn(t);
+      case CIRC_EASE_IN_OUT_ID:
+        return circEaseInOut(t);
+      case CIRC_EASE_OUT_ID:
+        return circEaseOut(t);
+      case ELASTIC_EASE_IN_ID:
+        return elasticEaseIn(t);
+      case ELASTIC_EASE_IN_OUT_ID:
+        return elasticEaseInOut(t);
+      case ELASTIC_EASE_OUT_ID:
+        return elasticEaseOut(t);
+      case EXPO_EASE_IN_ID:
+        return expoEaseIn(t);
+      case EXPO_EASE_IN_OUT_ID:
+        return expoEaseInOut(t);
+      case EXPO_EASE_OUT_ID:
+        return expoEaseOut(t);
+      case LINEAR_ID:
+        return linear(t);
+      case QUAD_EASE_IN_ID:
+        return quadEaseIn(t);
+      case QUAD_EASE_IN_OUT_ID:
+        return quadEaseInOut(t);
+      case QUAD_EASE_OUT_ID:
+        return quadEaseOut(t);
+      case QUINT_EASE_IN_ID:
+        return quintEaseIn(t);
+      case QUINT_EASE_IN_OUT_ID:
+        return quintEaseInOut(t);
+      case QUINT_EASE_OUT_ID:
+        return quintEaseOut(t);
+      case SINE_EASE_IN_ID:
+        return sineEaseIn(t);
+      case SINE_EASE_IN_OUT_ID:
+        return sineEaseInOut(t);
+      case SINE_EASE_OUT_ID:
+        return sineEaseOut(t);
+      default:
+        throw new IllegalArgumentException("Unknown curve id: " + curveId);
+    }
+  }
+
+  /**
+   * @return the id of this curve for {@link #ease(int, float)}. Ids are dense, from 0 to {@code values().length - 1}.
+   */
+  public int getCurveId() {
+    return ordinal();
+  }
+
+  /**
+   * Ease every fraction in an array. This is the same as calling {@link #ease(float)} for each element, without the
+   * overhead of a method call and a switch over the curves per value.
+   *
+   * @param fractions
+   *     the elapsed fractions
+   * @param out
+   *     the array to write the eased fractions to. May be the same array as {@code fractions}.
+   */
+  public void evaluate(float[] fractions, float[] out) {
+    evaluate(fractions, out, 0, fractions.length);
+  }
+
+  /**
+   * Ease a range of fractions in an array. The eased value of {@code fractions[i]} is written to {@code out[i]}.
+   *
+   * @param fractions
+   *     the elapsed fractions
+   * @param out
+   *     the array to write the eased fractions to. May be the same array as {@code fractions}.
+   * @param offset
+   *     the index of the first element to ease
+   * @param len
+   *     the number of elements to ease
+   */
+  public void evaluate(float[] fractions, float[] out, int offset, int len) {
+    if (offset < 0 || len < 0 || offset + len > fractions.length || offset + len > out.length) {
+      throw new ArrayIndexOutOfBoundsException("offset=" + offset + ", len=" + len
+          + ", fractions.length=" + fractions.length + ", out.length=" + out.length);
+    }
+    // One loop per curve, so the curve is chosen once per call instead of once per element.
+    int end = offset + len;
+    switch (ordinal()) {
+      case BACK_EASE_IN_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = backEaseIn(fractions[i]);
+        }
+        break;
+      case BACK_EASE_IN_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = backEaseInOut(fractions[i]);
+        }
+        break;
+      case BACK_EASE_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = backEaseOut(fractions[i]);
+        }
+        break;
+      case BOUNCE_EASE_IN_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = bounceEaseIn(fractions[i]);
+        }
+        break;
+      case BOUNCE_EASE_IN_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = bounceEaseInOut(fractions[i]);
+        }
+        break;
+      case BOUNCE_EASE_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = bounceEaseOut(fractions[i]);
+        }
+        break;
+      case CIRC_EASE_IN_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = circEaseIn(fractions[i]);
+        }
+        break;
+      case CIRC_EASE_IN_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = circEaseInOut(fractions[i]);
+        }
+        break;
+      case CIRC_EASE_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = circEaseOut(fractions[i]);
+        }
+        break;
+      case ELASTIC_EASE_IN_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = elasticEaseIn(fractions[i]);
+        }
+        break;
+      case ELASTIC_EASE_IN_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = elasticEaseInOut(fractions[i]);
+        }
+        break;
+      case ELASTIC_EASE_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = elasticEaseOut(fractions[i]);
+        }
+        break;
+      case EXPO_EASE_IN_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = expoEaseIn(fractions[i]);
+        }
+        break;
+      case EXPO_EASE_IN_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = expoEaseInOut(fractions[i]);
+        }
+        break;
+      case EXPO_EASE_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = expoEaseOut(fractions[i]);
+        }
+        break;
+      case LINEAR_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = linear(fractions[i]);
+        }
+        break;
+      case QUAD_EASE_IN_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = quadEaseIn(fractions[i]);
+        }
+        break;
+      case QUAD_EASE_IN_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = quadEaseInOut(fractions[i]);
+        }
+        break;
+      case QUAD_EASE_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = quadEaseOut(fractions[i]);
+        }
+        break;
+      case QUINT_EASE_IN_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = quintEaseIn(fractions[i]);
+        }
+        break;
+      case QUINT_EASE_IN_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = quintEaseInOut(fractions[i]);
+        }
+        break;
+      case QUINT_EASE_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = quintEaseOut(fractions[i]);
+        }
+        break;
+      case SINE_EASE_IN_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = sineEaseIn(fractions[i]);
+        }
+        break;
+      case SINE_EASE_IN_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = sineEaseInOut(fractions[i]);
+        }
+        break;
+      case SINE_EASE_OUT_ID:
+        for (int i = offset; i < end; i++) {
+          out[i] = sineEaseOut(fractions[i]);
+        }
+        break;
+      default:
+        throw new IllegalStateException("Unknown curve: " + this);
+    }
+  }
+
+  /*
+   * The curves of the kernel, one small method each, so that both the single switch of ease(int, float) and the
+   * per-curve loops of evaluate(float[], float[], int, int) can inline them.
+   */
+
+  private static float backEaseIn(float t) {
+    return t * t * ((1.70158f + 1) * t - 1.70158f);
+  }
+
+  private static float backEaseInOut(float t) {
+    return (t -= 1) * t * ((1.70158f + 1) * t + 1.70158f) + 1;
+  }
+
+  private static float backEaseOut(float t) {
+    return (t -= 1) * t * ((1.70158f + 1) * t + 1.70158f) + 1;
+  }
+
+  private static float bounceEaseIn(float t) {
+    return 1 - bounceEaseOut(1 - t);
+  }
+
+  private static float bounceEaseInOut(float t) {
+    if (t < .5f) {
+      return (1 - bounceEaseOut(1 - t * 2)) * .5f;
+    }
+    return bounceEaseOut(t * 2 - 1) * .5f + .5f;
+  }
+
+  private static float bounceEaseOut(float t) {
+    if (t < (1 / 2.75f)) {
+      return 7.5625f * t * t;
+    } else if (t < (2 / 2.75f)) {
+      return 7.5625f * (t -= (1.5f / 2.75f)) * t + .75f;
+    } else if (t < (2.5 / 2.75)) {
+      return 7.5625f * (t -= (2.25f / 2.75f)) * t + .9375f;
+    }
+    return 7.5625f * (t -= (2.625f / 2.75f)) * t + .984375f;
+  }
+
+  private static float circEaseIn(float t) {
+    return -((float) Math.sqrt(1 - t * t) - 1);
+  }
+
+  private static float circEaseInOut(float t) {
+    if ((t *= 2) < 1) {
+      return -.5f * ((float) Math.sqrt(1 - t * t) - 1);
+    }
+    return .5f * ((float) Math.sqrt(1 - (t -= 2) * t) + 1);
+  }
+
+  private static float circEaseOut(float t) {
+    return (float) Math.sqrt(1 - (t -= 1) * t);
+  }
+
+  private static float elasticEaseIn(float t) {
+    if (t == 0 || t == 1) {
+      return t;
+    }
+    float p = .3f;
+    float s = p / 4;
+    return -((float) Math.pow(2, 10 * (t -= 1)) * (float) Math.sin((t - s) * (2 * (float) Math.PI) / p));
+  }
+
+  private static float elasticEaseInOut(float t) {
+    if (t == 0 || t == 1) {
+      return t;
+    }
+    float p = .3f * 1.5f;
+    float s = p / 4;
+    if ((t *= 2) < 1) {
+      return -.5f * ((float) Math.pow(2, 10 * (t -= 1)) * (float) Math.sin((t - s) * (2 * (float) Math.PI) / p));
+    }
+    return (float) Math.pow(2, -10 * (t -= 1)) * (float) Math.sin((t - s) * (2 * (float) Math.PI) / p) * .5f + 1;
+  }
+
+  private static float elasticEaseOut(float t) {
+    if (t == 0 || t == 1) {
+      return t;
+    }
+    float p = .3f;
+    float s = p / 4;
+    return (float) Math.pow(2, -10 * t) * (float) Math.sin((t - s) * (2 * (float) Math.PI) / p) + 1;
+  }
+
+  private static float expoEaseIn(float t) {
+    return (t == 0) ? 0 : (float) Math.pow(2, 10 * (t - 1));
+  }
+
+  private static float expoEaseInOut(float t) {
+    if (t == 0 || t == 1) {
+      return t;
+    }
+    if ((t *= 2) < 1) {
+      return .5f * (float) Math.pow(2, 10 * (t - 1));
+    }
+    return .5f * (-(float) Math.pow(2, -10 * --t) + 2);
+  }
+
+  private static float expoEaseOut(float t) {
+    return (t == 1) ? 1 : -(float) Math.pow(2, -10 * t) + 1;
+  }
+
+  private static float linear(float t) {
+    return t;
+  }
+
+  private static float quadEaseIn(float t) {
+    return t * t;
+  }
+
+  private static float quadEaseInOut(float t) {
+    if ((t *= 2) < 1) {
+      return .5f * t * t;
+    }
+    return -.5f * ((--t) * (t - 2) - 1);
+  }
+
+  private static float quadEaseOut(float t) {
+    return -t * (t - 2);
+  }
+
+  private static float quintEaseIn(float t) {
+    return t * t * t * t * t;
+  }
+
+  private static float quintEaseInOut(float t) {
+    if ((t *= 2) < 1) {
+      return .5f * t * t * t * t * t;
+    }
+    return .5f * ((t -= 2) * t * t * t * t + 2);
+  }
+
+  private static float quintEaseOut(float t) {
+    return (t -= 1) * t * t * t * t + 1;
+  }
+
+  private static float sineEaseIn(float t) {
+    return -(float) Math.cos(t * (Math.PI / 2)) + 1;
+  }
+
+  private static float sineEaseInOut(float t) {
+    return -.5f * ((float) Math.cos(Math.PI * t) - 1);
+  }
+
+  private static float sineEaseOut(float t) {
+    return (float) Math.sin(t * (Math.PI / 2));
+  }
+
+  /**
+   * <p>Set whether {@link #glide(float, ValueAnimator)} and the other glide methods compute the curve from the absolute
+   * time and duration, as they always have, or from the normalized {@link #ease(float)} curve.</p>
+   *
+   * <p>The default is {@code true}, which reproduces the exact results of previous versions.</p>
+   *
+   * @param coupled
+   *     {@code false} to use normalized curves.
+   */
+  public static void setDurationCoupled(boolean coupled) {
+    durationCoupled = coupled;
+    for (Skill skill : values()) {
+      synchronized (skill.sharedMethods) {
+        skill.sharedMethods.clear();
+      }
+    }
+  }
+
+  /**
+   * @return {@code true} if the glide methods compute curves from the absolute time and duration.
+   * @see #setDurationCoupled(boolean)
+   */
+  public static boolean isDurationCoupled() {
+    return durationCoupled;
+  }
+
+  /**
+   * <p>Ease a normalized fraction using float polynomial approximations instead of {@link Math#pow(double, double)},
+   * {@link Math#sin(double)} and {@link Math#cos(double)}. This is cheaper for the ELASTIC, EXPO and SINE curves. Other
+   * curves return the same value as {@link #ease(float)}.</p>
+   *
+   * <p>The difference from {@link #ease(float)} is bounded by {@link #getApproximationError()}.</p>
+   *
+   * @param t
+   *     the elapsed fraction of the animation, from 0 to 1
+   * @return the eased fraction
+   */
+  public float easeApprox(float t) {
+    return ease(t);
+  }
+
+  /**
+   * Get the largest absolute difference between {@link #easeApprox(float)} and {@link #ease(float)} for fractions in
+   * [0, 1], on a normalized curve where the start value is 0 and the end value is 1.
+   *
+   * <ul>
+   * <li>ELASTIC_EASE_IN, ELASTIC_EASE_OUT, ELASTIC_EASE_IN_OUT: 5e-6</li>
+   * <li>EXPO_EASE_IN, EXPO_EASE_OUT, EXPO_EASE_IN_OUT: 1e-6</li>
+   * <li>SINE_EASE_IN, SINE_EASE_OUT, SINE_EASE_IN_OUT: 5e-6</li>
+   * <li>All other curves: 0</li>
+   * </ul>
+   *
+   * @return the error bound of {@link #easeApprox(float)}
+   */
+  public float getApproximationError() {
+    switch (this) {
+      case ELASTIC_EASE_IN:
+      case ELASTIC_EASE_IN_OUT:
+      case ELASTIC_EASE_OUT:
+        return 5e-6f;
+      case EXPO_EASE_IN:
+      case EXPO_EASE_IN_OUT:
+      case EXPO_EASE_OUT:
+        return 1e-6f;
+      case SINE_EASE_IN:
+      case SINE_EASE_IN_OUT:
+      case SINE_EASE_OUT:
+        return 5e-6f;
+      default:
+        return 0;
+    }
+  }
+
   /**
    * Get the {@link EasingMethod} for this {@link Skill}.
    *
@@ -384,6 +980,57 @@ public enum Skill {
    */
   public abstract EasingMethod getMethod(float duration);
 
+  /**
+   * Get an {@link EasingMethod} that evaluates the normalized {@link #ease(float)} curve. The shape of the curve does
+   * not depend on the duration.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @return the {@link EasingMethod}
+   */
+  public EasingMethod getNormalizedMethod(float duration) {
+    return new NormalizedMethod(this, duration, false);
+  }
+
+  /**
+   * Get an {@link EasingMethod} that evaluates the approximated {@link #easeApprox(float)} curve.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @return the {@link EasingMethod}
+   * @see #getApproximationError()
+   */
+  public EasingMethod getApproximateMethod(float duration) {
+    return new NormalizedMethod(this, duration, true);
+  }
+
+  private EasingMethod newMethod(float duration) {
+    return durationCoupled ? getMethod(duration) : getNormalizedMethod(duration);
+  }
+
+  /**
+   * <p>Get a shared {@link EasingMethod} for this {@link Skill}. The method is cached per duration and reused by every
+   * caller, so it is immutable: adding listeners or changing the duration throws an {@link
+   * UnsupportedOperationException}.</p>
+   *
+   * <p>Use {@link #getMethod(float)} instead if you need {@link EasingMethod.EasingListener}s.</p>
+   *
+   * @param duration
+   *     the duration of the animation
+   * @return the shared {@link EasingMethod}
+   */
+  public EasingMethod getSharedMethod(float duration) {
+    synchronized (sharedMethods) {
+      EasingMethod method = sharedMethods.get(duration);
+      if (method == null) {
+        method = newMethod(duration);
+        method.shared = true;
+        sharedMethods.put(duration, method);
+      }
+      return method;
+    }
+  }
+
   /**
    * Get the {@link ValueAnimator} for this {@link Skill}.
    *
@@ -409,7 +1056,7 @@ public enum Skill {
    * @return the {@link ValueAnimator}
    */
   public ValueAnimator glide(float duration, ValueAnimator animator, EasingMethod.EasingListener... listeners) {
-    EasingMethod method = getMethod(duration);
+    EasingMethod method = newMethod(duration);
     if (listeners != null && listeners.length > 0) {
       method.addEasingListeners(listeners);
     }
@@ -417,6 +1064,22 @@ public enum Skill {
     return animator;
   }
 
+  /**
+   * Set the shared {@link EasingMethod} for this {@link Skill} on an animator. No new {@link EasingMethod} is created if
+   * one already exists for the duration.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @param animator
+   *     an animator, usually an {@link ObjectAnimator}, to set the {@link EasingMethod} on.
+   * @return the {@link ValueAnimator}
+   * @see #getSharedMethod(float)
+   */
+  public ValueAnimator glideShared(float duration, ValueAnimator animator) {
+    animator.setEvaluator(getSharedMethod(duration));
+    return animator;
+  }
+
   /**
    * Get the {@link PropertyValuesHolder} for this {@link Skill}.
    *
@@ -427,16 +1090,454 @@ public enum Skill {
    * @return the {@link PropertyValuesHolder}
    */
   public PropertyValuesHolder glide(float duration, PropertyValuesHolder propertyValuesHolder) {
-    propertyValuesHolder.setEvaluator(getMethod(duration));
+    propertyValuesHolder.setEvaluator(newMethod(duration));
     return propertyValuesHolder;
   }
 
+  /**
+   * Set a {@link FloatEasingEvaluator} on an animator created with float values, for example {@link
+   * ObjectAnimator#ofFloat(Object, String, float...)}.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @param animator
+   *     an animator with float values
+   * @param listeners
+   *     the animation listeners
+   * @return the {@link ValueAnimator}
+   */
+  public ValueAnimator glideFloat(float duration, ValueAnimator animator, EasingMethod.EasingListener... listeners) {
+    EasingMethod method = newMethod(duration);
+    if (listeners != null && listeners.length > 0) {
+      method.addEasingListeners(listeners);
+    }
+    animator.setEvaluator(new FloatEasingEvaluator(method));
+    return animator;
+  }
+
+  /**
+   * Set an {@link IntEasingEvaluator} on an animator created with int values, for example {@link
+   * ObjectAnimator#ofInt(Object, String, int...)}.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @param animator
+   *     an animator with int values
+   * @param listeners
+   *     the animation listeners
+   * @return the {@link ValueAnimator}
+   */
+  public ValueAnimator glideInt(float duration, ValueAnimator animator, EasingMethod.EasingListener... listeners) {
+    EasingMethod method = newMethod(duration);
+    if (listeners != null && listeners.length > 0) {
+      method.addEasingListeners(listeners);
+    }
+    animator.setEvaluator(new IntEasingEvaluator(method));
+    return animator;
+  }
+
+  /**
+   * Set a {@link PointFEasingEvaluator} on an animator created with {@link PointF} values, so that both coordinates
+   * are eased by one evaluation per frame.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @param animator
+   *     an animator with {@link PointF} values, for example {@link ObjectAnimator#ofObject(Object, String,
+   *     TypeEvaluator, Object...)}
+   * @param listeners
+   *     the animation listeners. They receive the eased progress, from 0 to 1, instead of a coordinate.
+   * @return the {@link ValueAnimator}
+   */
+  public ValueAnimator glidePointF(float duration, ValueAnimator animator, EasingMethod.EasingListener... listeners) {
+    EasingMethod method = newMethod(duration);
+    if (listeners != null && listeners.length > 0) {
+      method.addEasingListeners(listeners);
+    }
+    animator.setEvaluator(new PointFEasingEvaluator(method));
+    return animator;
+  }
+
+  /**
+   * Set a {@link FloatArrayEasingEvaluator} on an animator created with {@code float[]} values, so that every channel
+   * is eased by one evaluation per frame.
+   *
+   * @param duration
+   *     the duration of the animation
+   * @param animator
+   *     an animator with {@code float[]} values
+   * @param listeners
+   *     the animation listeners. They receive the eased progress, from 0 to 1, instead of a channel value.
+   * @return the {@link ValueAnimator}
+   */
+  public ValueAnimator glideFloatArray(float duration, ValueAnimator animator,
+                                       EasingMethod.EasingListener... listeners) {
+    EasingMethod method = newMethod(duration);
+    if (listeners != null && listeners.length > 0) {
+      method.addEasingListeners(listeners);
+    }
+    animator.setEvaluator(new FloatArrayEasingEvaluator(method));
+    return animator;
+  }
+
+  /**
+   * Create an animator that moves a view along a path, with this {@link Skill} applied to the progress along the path.
+   * The path is measured once and cached, see {@link PathMotion}.
+   *
+   * @param path
+   *     the path, in translation coordinates
+   * @param target
+   *     the view to move
+   * @return a new {@link ValueAnimator}
+   */
+  public ValueAnimator glidePath(Path path, View target) {
+    return PathMotion.of(path).animate(target, this);
+  }
+
+  /**
+   * Get this {@link Skill} as an {@link Interpolator} that maps the elapsed fraction of an animation to an eased fraction.
+   * Unlike {@link EasingMethod}, the interpolator does not box values and is shared, so it can be used on any animator,
+   * {@link android.animation.AnimatorSet} or {@link Technique.Composer#interpolate(Interpolator)} without allocating.
+   *
+   * @return the {@link Interpolator} for this {@link Skill}
+   */
+  public Interpolator asInterpolator() {
+    if (interpolator == null) {
+      interpolator = new SkillInterpolator(this, false);
+    }
+    return interpolator;
+  }
+
+  /**
+   * Get this {@link Skill} as an {@link Interpolator} that uses the approximated {@link #easeApprox(float)} curve.
+   *
+   * @return the approximate {@link Interpolator} for this {@link Skill}
+   * @see #getApproximationError()
+   */
+  public Interpolator asApproximateInterpolator() {
+    if (approximateInterpolator == null) {
+      approximateInterpolator = new SkillInterpolator(this, true);
+    }
+    return approximateInterpolator;
+  }
+
+  /**
+   * Get a {@link ColorEasing} that eases ARGB colors with this {@link Skill} in linear color space, without allocating
+   * per frame.
+   *
+   * @return the {@link ColorEasing} for this {@link Skill}
+   */
+  public ColorEasing toColorEasing() {
+    if (colorEasing == null) {
+      colorEasing = new ColorEasing(this);
+    }
+    return colorEasing;
+  }
+
+  /**
+   * Get a precomputed lookup table for this {@link Skill}. Tables are cached, so each resolution is only built once.
+   *
+   * @param samples
+   *     the number of samples in the table. Higher values are more accurate, see {@link
+   *     EasingLookupTable#getMaxError()}.
+   * @return the {@link EasingLookupTable}
+   */
+  public EasingLookupTable toLookupTable(int samples) {
+    return EasingLookupTable.obtain(this, samples);
+  }
+
+  /**
+   * <p>Get the fraction of the animation at which this curve reaches a value. This is the inverse of {@link
+   * #ease(float)} and can be used to continue an interrupted animation from its current value without a jump.</p>
+   *
+   * <p>The first call builds a lookup table for this {@link Skill}. Every later call takes constant time. Easing the
+   * result gives back the value to within about 1e-6, except where the curve jumps or is nearly vertical: the EXPO
+   * curves never produce values within 0.001 of their endpoints, and the CIRC curves are accurate to about 3e-4.</p>
+   *
+   * <p>BACK, BOUNCE and ELASTIC curves are not monotonic and reach some values more than once. For these curves the
+   * earliest fraction at which the curve reaches the value is returned. For example, BACK_EASE_OUT overshoots, so
+   * {@code inverse(1)} is the fraction where it first passes 1, before the end of the animation. See {@link
+   * #isMonotonic()}.</p>
+   *
+   * @param value
+   *     the eased value, where 0 is the start value and 1 is the end value. Values outside of [0, 1] are clamped.
+   * @return the earliest fraction, from 0 to 1, at which the curve reaches the value
+   */
+  public float inverse(float value) {
+    return getInverse().inverse(value);
+  }
+
+  /**
+   * @return {@code true} if the curve never decreases, so that {@link #inverse(float)} has exactly one solution for
+   * every value.
+   */
+  public boolean isMonotonic() {
+    return getInverse().isMonotonic();
+  }
+
+  private EasingInverse getInverse() {
+    if (inverse == null) {
+      inverse = new EasingInverse(this);
+    }
+    return inverse;
+  }
+
+  /**
+   * Get this {@link Skill} as an {@link EasingCurve} that can be reversed, mirrored, chained and blended with other
+   * curves. Composed curves are flattened when they are built, so they evaluate without any nested {@link
+   * EasingMethod}s.
+   *
+   * @return the {@link EasingCurve} for this {@link Skill}
+   */
+  public EasingCurve toCurve() {
+    if (curve == null) {
+      curve = EasingCurve.of(this);
+    }
+    return curve;
+  }
+
+  /**
+   * @return this curve played backwards in time, see {@link EasingCurve#reverse()}.
+   */
+  public EasingCurve reverse() {
+    return toCurve().reverse();
+  }
+
+  /**
+   * @return this curve followed by its reverse, see {@link EasingCurve#mirror()}.
+   */
+  public EasingCurve mirror() {
+    return toCurve().mirror();
+  }
+
+  /**
+   * Play this curve over the first half of the animation and another over the second half.
+   *
+   * @param next
+   *     the skill to play second
+   * @return the chained curve
+   * @see EasingCurve#then(EasingCurve, float)
+   */
+  public EasingCurve then(Skill next) {
+    return toCurve().then(next);
+  }
+
+  /**
+   * Blend this curve with another: {@code (1 - weight) * this + weight * other}.
+   *
+   * @param other
+   *     the skill to blend with
+   * @param weight
+   *     the weight of the other skill, usually from 0 to 1
+   * @return the blended curve
+   */
+  public EasingCurve blend(Skill other, float weight) {
+    return toCurve().blend(other, weight);
+  }
+
+  /**
+   * Approximate this {@link Skill} with cubic Bezier segments, for example to use it with a platform {@link
+   * android.view.animation.PathInterpolator}. Fits are cached per tolerance.
+   *
+   * @param tolerance
+   *     the maximum error of the fit, on a normalized curve where the start value is 0 and the end value is 1.
+   * @return the {@link EasingBezierFit}
+   */
+  public EasingBezierFit toBezier(float tolerance) {
+    return EasingBezierFit.obtain(this, tolerance);
+  }
+
+  private static final class SkillInterpolator implements Interpolator {
+
+    private final Skill skill;
+    private final boolean approximate;
+
+    SkillInterpolator(Skill skill, boolean approximate) {
+      this.skill = skill;
+      this.approximate = approximate;
+    }
+
+    @Override public float getInterpolation(float input) {
+      return approximate ? skill.easeApprox(input) : skill.ease(input);
+    }
+
+  }
+
+  private static final class NormalizedMethod extends EasingMethod {
+
+    private final Skill skill;
+    private final boolean approximate;
+
+    NormalizedMethod(Skill skill, float duration, boolean approximate) {
+      super(duration);
+      this.skill = skill;
+      this.approximate = approximate;
+    }
+
+    @Override public float calculate(float t, float b, float c, float d) {
+      return c * (approximate ? skill.easeApprox(t / d) : skill.ease(t / d)) + b;
+    }
+
+  }
+
+  /**
+   * A {@link TypeEvaluator} for float animations. Compared to using the {@link EasingMethod} itself, it only saves the
+   * virtual {@link Number#floatValue()} calls: the {@link Float} start and end values are still unboxed and the result
+   * is still boxed on every frame. Like {@link EasingMethod#evaluateFloat(float, float, float)}, it skips the listener
+   * loop when no {@link EasingMethod.EasingListener} was added. Use {@link Skill#asInterpolator()} for a path without
+   * boxing.
+   */
+  public static final class FloatEasingEvaluator implements TypeEvaluator<Float> {
+
+    private final EasingMethod method;
+
+    public FloatEasingEvaluator(EasingMethod method) {
+      this.method = method;
+    }
+
+    @Override public Float evaluate(float fraction, Float startValue, Float endValue) {
+      return method.evaluateFloat(fraction, startValue, endValue);
+    }
+
+    /**
+     * @return the {@link EasingMethod} used by this evaluator.
+     */
+    public EasingMethod getMethod() {
+      return method;
+    }
+
+  }
+
+  /**
+   * A {@link TypeEvaluator} for int animations, such as scroll positions or heights. The eased value is truncated the
+   * same way as {@link android.animation.IntEvaluator}.
+   */
+  public static final class IntEasingEvaluator implements TypeEvaluator<Integer> {
+
+    private final EasingMethod method;
+
+    public IntEasingEvaluator(EasingMethod method) {
+      this.method = method;
+    }
+
+    @Override public Integer evaluate(float fraction, Integer startValue, Integer endValue) {
+      return (int) method.evaluateFloat(fraction, startValue, endValue);
+    }
+
+    /**
+     * @return the {@link EasingMethod} used by this evaluator.
+     */
+    public EasingMethod getMethod() {
+      return method;
+    }
+
+  }
+
+  /**
+   * <p>A {@link TypeEvaluator} for {@link PointF} animations. The curve is evaluated once per frame and applied to both
+   * coordinates, and the result is written into the same {@link PointF} every time.</p>
+   *
+   * <p>The {@link EasingMethod} computes the eased progress from 0 to 1, so its {@link EasingMethod.EasingListener}s
+   * receive the progress instead of a coordinate.</p>
+   */
+  public static final class PointFEasingEvaluator implements TypeEvaluator<PointF> {
+
+    private final EasingMethod method;
+    private final PointF point;
+
+    public PointFEasingEvaluator(EasingMethod method) {
+      this(method, new PointF());
+    }
+
+    /**
+     * @param method
+     *     the {@link EasingMethod}
+     * @param reuse
+     *     the {@link PointF} to write every result into
+     */
+    public PointFEasingEvaluator(EasingMethod method, PointF reuse) {
+      this.method = method;
+      this.point = reuse;
+    }
+
+    @Override public PointF evaluate(float fraction, PointF startValue, PointF endValue) {
+      float progress = method.evaluateFloat(fraction, 0, 1);
+      point.set(startValue.x + (endValue.x - startValue.x) * progress,
+          startValue.y + (endValue.y - startValue.y) * progress);
+      return point;
+    }
+
+    /**
+     * @return the {@link EasingMethod} used by this evaluator.
+     */
+    public EasingMethod getMethod() {
+      return method;
+    }
+
+  }
+
+  /**
+   * <p>A {@link TypeEvaluator} for {@code float[]} animations, for example x, y and z coordinates or the values of a
+   * matrix. The curve is evaluated once per frame and applied to every channel, and the result is written into the same
+   * array every time. The array is only reallocated if the number of channels changes.</p>
+   *
+   * <p>The {@link EasingMethod} computes the eased progress from 0 to 1, so its {@link EasingMethod.EasingListener}s
+   * receive the progress instead of a channel value.</p>
+   */
+  public static final class FloatArrayEasingEvaluator implements TypeEvaluator<float[]> {
+
+    private final EasingMethod method;
+    private float[] array;
+
+    public FloatArrayEasingEvaluator(EasingMethod method) {
+      this(method, null);
+    }
+
+    /**
+     * @param method
+     *     the {@link EasingMethod}
+     * @param reuse
+     *     the array to write every result into, or {@code null} to allocate one on the first frame
+     */
+    public FloatArrayEasingEvaluator(EasingMethod method, float[] reuse) {
+      this.method = method;
+      this.array = reuse;
+    }
+
+    @Override public float[] evaluate(float fraction, float[] startValue, float[] endValue) {
+      int length = startValue.length;
+      if (endValue.length != length) {
+        throw new IllegalArgumentException("Start and end values must have the same length: "
+            + length + " != " + endValue.length);
+      }
+      if (array == null || array.length != length) {
+        array = new float[length];
+      }
+      float progress = method.evaluateFloat(fraction, 0, 1);
+      for (int i = 0; i < length; i++) {
+        array[i] = startValue[i] + (endValue[i] - startValue[i]) * progress;
+      }
+      return array;
+    }
+
+    /**
+     * @return the {@link EasingMethod} used by this evaluator.
+     */
+    public EasingMethod getMethod() {
+      return method;
+    }
+
+  }
+
   public static abstract class EasingMethod implements TypeEvaluator<Number> {
 
     private final ArrayList<EasingListener> listeners = new ArrayList<>();
 
     protected float duration;
 
+    /** {@code true} if this method is cached and shared, see {@link Skill#getSharedMethod(float)}. */
+    boolean shared;
+
     public EasingMethod(float duration) {
       this.duration = duration;
     }
@@ -448,6 +1549,7 @@ public enum Skill {
      *     the {@link EasingListener}
      */
     public void addEasingListener(EasingListener listener) {
+      checkNotShared();
       listeners.add(listener);
     }
 
@@ -458,6 +1560,7 @@ public enum Skill {
      *     the {@link EasingListener}(s)
      */
     public void addEasingListeners(EasingListener... listeners) {
+      checkNotShared();
       Collections.addAll(this.listeners, listeners);
     }
 
@@ -485,17 +1588,41 @@ public enum Skill {
      *     the time in milliseconds.
      */
     public void setDuration(float duration) {
+      checkNotShared();
       this.duration = duration;
     }
 
+    private void checkNotShared() {
+      if (shared) {
+        throw new UnsupportedOperationException("A shared EasingMethod can not be modified");
+      }
+    }
+
     @Override public final Float evaluate(float fraction, Number startValue, Number endValue) {
+      return evaluateFloat(fraction, startValue.floatValue(), endValue.floatValue());
+    }
+
+    /**
+     * Evaluate the easing function with primitive values and notify the {@link EasingListener}s, if any.
+     *
+     * @param fraction
+     *     the elapsed fraction of the animation
+     * @param startValue
+     *     the start value
+     * @param endValue
+     *     the end value
+     * @return the eased value
+     */
+    public final float evaluateFloat(float fraction, float startValue, float endValue) {
       float t = duration * fraction;
-      float b = startValue.floatValue();
-      float c = endValue.floatValue() - startValue.floatValue();
+      float b = startValue;
+      float c = endValue - startValue;
       float d = duration;
       float result = calculate(t, b, c, d);
-      for (EasingListener l : listeners) {
-        l.on(t, result, b, c, d);
+      if (!listeners.isEmpty()) {
+        for (int i = 0, size = listeners.size(); i < size; i++) {
+          listeners.get(i).on(t, result, b, c, d);
+        }
       }
       return result;
     }
@@ -18,16 +18,31 @@ package com.jaredrummler.android.animations;
 
 import android.animation.Animator;
 import android.animation.AnimatorSet;
-import android.animation.ObjectAnimator;
-import android.annotation.TargetApi;
-import android.os.Build.VERSION_CODES;
+import android.graphics.Path;
 import android.view.View;
 import android.view.ViewGroup;
+import android.view.animation.AccelerateDecelerateInterpolator;
 import android.view.animation.Interpolator;
 
+import com.jaredrummler.android.animations.TechniqueSpec.Dimension;
+
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.jaredrummler.android.animations.TechniqueSpec.CONTENT_BOTTOM;
+import static com.jaredrummler.android.animations.TechniqueSpec.CONTENT_CENTER_X;
+import static com.jaredrummler.android.animations.TechniqueSpec.CONTENT_LEFT;
+import static com.jaredrummler.android.animations.TechniqueSpec.CONTENT_RIGHT;
+import static com.jaredrummler.android.animations.TechniqueSpec.CONTENT_WIDTH;
+import static com.jaredrummler.android.animations.TechniqueSpec.DISTANCE_TO_PARENT_BOTTOM;
+import static com.jaredrummler.android.animations.TechniqueSpec.DISTANCE_TO_PARENT_RIGHT;
+import static com.jaredrummler.android.animations.TechniqueSpec.DISTANCE_TO_TOP;
+import static com.jaredrummler.android.animations.TechniqueSpec.PIVOT_X;
+import static com.jaredrummler.android.animations.TechniqueSpec.PIVOT_Y;
+import static com.jaredrummler.android.animations.TechniqueSpec.constant;
+import static com.jaredrummler.android.animations.TechniqueSpec.dimension;
+import static com.jaredrummler.android.animations.TechniqueSpec.percentOf;
+
 /**
  * <h1>Collection of animations.</h1>
  *
@@ -80,878 +95,365 @@ public enum Technique {
   /* Attention
   /* ------------------------------------------------------------------------------------------- */
 
-  FLASH {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0, 1, 0, 1));
-        }
-      };
-    }
-  },
-  PULSE {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "scaleY", 1, 1.1f, 1),
-              ObjectAnimator.ofFloat(target, "scaleX", 1, 1.1f, 1));
-        }
-      };
-    }
-  },
-  RUBBER_BAND {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "scaleX", 1, 1.25f, 0.75f, 1.15f, 1),
-              ObjectAnimator.ofFloat(target, "scaleY", 1, 0.75f, 1.25f, 0.85f, 1));
-        }
-      };
-    }
-  },
-  SHAKE {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "translationX",
-                  0, 25, -25, 25, -25, 15, -15, 6, -6, 0));
-        }
-      };
-    }
-  },
-  SWING {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "rotation", 0, 10, -10, 6, -6, 3, -3, 0));
-        }
-      };
-    }
-  },
-  WOBBLE {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float width = target.getWidth();
-          float one = (float) (width / 100.0);
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "translationX",
-                  0 * one, -25 * one, 20 * one, -15 * one, 10 * one, -5 * one, 0 * one, 0),
-              ObjectAnimator.ofFloat(target, "rotation",
-                  0, -5, 3, -3, 2, -1, 0));
-        }
-      };
-    }
-  },
-  BOUNCE {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "translationY", 0, 0, -30, 0, -15, 0, 0));
-        }
-      };
-    }
-  },
-  TADA {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "scaleX",
-                  1, 0.9f, 0.9f, 1.1f, 1.1f, 1.1f, 1.1f, 1.1f, 1.1f, 1),
-              ObjectAnimator.ofFloat(target, "scaleY",
-                  1, 0.9f, 0.9f, 1.1f, 1.1f, 1.1f, 1.1f, 1.1f, 1.1f, 1),
-              ObjectAnimator.ofFloat(target, "rotation",
-                  0, -3, -3, 3, -3, 3, -3, 3, -3, 0));
-        }
-      };
-    }
-  },
-  STAND_UP {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = (target.getWidth() - target.getPaddingLeft() - target.getPaddingRight()) / 2
-              + target.getPaddingLeft();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "pivotX", x, x, x, x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y, y, y, y),
-              ObjectAnimator.ofFloat(target, "rotationX", 55, -30, 15, -15, 0));
-        }
-      };
-    }
-  },
-  WAVE {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = (target.getWidth() - target.getPaddingLeft() - target.getPaddingRight()) / 2
-              + target.getPaddingLeft();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "rotation", 12, -12, 3, -3, 0),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x, x, x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y, y, y, y));
-        }
-      };
-    }
-  },
+  FLASH(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0, 1, 0, 1)
+      .build()),
+  PULSE(TechniqueSpec.builder()
+      .track(View.SCALE_Y, 1, 1.1f, 1)
+      .track(View.SCALE_X, 1, 1.1f, 1)
+      .build()),
+  RUBBER_BAND(TechniqueSpec.builder()
+      .track(View.SCALE_X, 1, 1.25f, 0.75f, 1.15f, 1)
+      .track(View.SCALE_Y, 1, 0.75f, 1.25f, 0.85f, 1)
+      .build()),
+  SHAKE(TechniqueSpec.builder()
+      .track(View.TRANSLATION_X, 0, 25, -25, 25, -25, 15, -15, 6, -6, 0)
+      .build()),
+  SWING(TechniqueSpec.builder()
+      .track(View.ROTATION, 0, 10, -10, 6, -6, 3, -3, 0)
+      .build()),
+  WOBBLE(TechniqueSpec.builder()
+      .track(View.TRANSLATION_X,
+          percentOf(Dimension.WIDTH, 0), percentOf(Dimension.WIDTH, -25), percentOf(Dimension.WIDTH, 20),
+          percentOf(Dimension.WIDTH, -15), percentOf(Dimension.WIDTH, 10), percentOf(Dimension.WIDTH, -5),
+          percentOf(Dimension.WIDTH, 0), constant(0))
+      .track(View.ROTATION, 0, -5, 3, -3, 2, -1, 0)
+      .build()),
+  BOUNCE(TechniqueSpec.builder()
+      .track(View.TRANSLATION_Y, 0, 0, -30, 0, -15, 0, 0)
+      .build()),
+  TADA(TechniqueSpec.builder()
+      .track(View.SCALE_X, 1, 0.9f, 0.9f, 1.1f, 1.1f, 1.1f, 1.1f, 1.1f, 1.1f, 1)
+      .track(View.SCALE_Y, 1, 0.9f, 0.9f, 1.1f, 1.1f, 1.1f, 1.1f, 1.1f, 1.1f, 1)
+      .track(View.ROTATION, 0, -3, -3, 3, -3, 3, -3, 3, -3, 0)
+      .build()),
+  STAND_UP(TechniqueSpec.builder()
+      .hold(PIVOT_X, CONTENT_CENTER_X, 5)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 5)
+      .track(View.ROTATION_X, 55, -30, 15, -15, 0)
+      .build()),
+  WAVE(TechniqueSpec.builder()
+      .track(View.ROTATION, 12, -12, 3, -3, 0)
+      .hold(PIVOT_X, CONTENT_CENTER_X, 5)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 5)
+      .build()),
 
   /* ------------------------------------------------------------------------------------------- */
   /* Special
   /* ------------------------------------------------------------------------------------------- */
 
-  HINGE {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = target.getPaddingLeft();
-          float y = target.getPaddingTop();
-          getAnimatorSet().playTogether(
-              Skill.SINE_EASE_IN_OUT.glide(1300,
-                  ObjectAnimator.ofFloat(target, "rotation", 0, 80, 60, 80, 60, 60)),
-              ObjectAnimator.ofFloat(target, "translationY", 0, 0, 0, 0, 0, 700),
-              ObjectAnimator.ofFloat(target, "alpha", 1, 1, 1, 1, 1, 0),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x, x, x, x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y, y, y, y, y));
-
-          setDuration(1300);
-        }
-      };
-    }
-  },
-  ROLL_IN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "translationX",
-                  -(target.getWidth() - target.getPaddingLeft() - target.getPaddingRight()), 0),
-              ObjectAnimator.ofFloat(target, "rotation", -120, 0));
-        }
-      };
-    }
-  },
-  ROLL_OUT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "translationX", 0, target.getWidth()),
-              ObjectAnimator.ofFloat(target, "rotation", 0, 120));
-        }
-      };
-    }
-  },
-  LANDING {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          long duration = getAnimatorSet().getDuration();
-          getAnimatorSet().playTogether(
-              Skill.QUINT_EASE_OUT.glide(duration,
-                  ObjectAnimator.ofFloat(target, "scaleX", 1.5f, 1f)),
-              Skill.QUINT_EASE_OUT.glide(duration,
-                  ObjectAnimator.ofFloat(target, "scaleY", 1.5f, 1f)),
-              Skill.QUINT_EASE_OUT.glide(duration,
-                  ObjectAnimator.ofFloat(target, "alpha", 0, 1f)));
-        }
-      };
-    }
-  },
-  TAKING_OFF {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          long duration = getAnimatorSet().getDuration();
-          getAnimatorSet().playTogether(
-              Skill.QUINT_EASE_OUT
-                  .glide(duration, ObjectAnimator.ofFloat(target, "scaleX", 1f, 1.5f)),
-              Skill.QUINT_EASE_OUT
-                  .glide(duration, ObjectAnimator.ofFloat(target, "scaleY", 1f, 1.5f)),
-              Skill.QUINT_EASE_OUT
-                  .glide(duration, ObjectAnimator.ofFloat(target, "alpha", 1, 0)));
-        }
-      };
-    }
-  },
-  DROP_OUT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          int distance = target.getTop() + target.getHeight();
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              Skill.BOUNCE_EASE_OUT.glide(getAnimatorSet().getDuration(),
-                  ObjectAnimator.ofFloat(target, "translationY", -distance, 0))
-          );
-        }
-      };
-    }
-  },
+  HINGE(TechniqueSpec.builder()
+      .track(Skill.SINE_EASE_IN_OUT, 1300, View.ROTATION, 0, 80, 60, 80, 60, 60)
+      .track(View.TRANSLATION_Y, 0, 0, 0, 0, 0, 700)
+      .track(View.ALPHA, 1, 1, 1, 1, 1, 0)
+      .hold(PIVOT_X, dimension(Dimension.PADDING_LEFT), 6)
+      .hold(PIVOT_Y, dimension(Dimension.PADDING_TOP), 6)
+      .duration(1300)
+      .build()),
+  ROLL_IN(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(View.TRANSLATION_X, CONTENT_WIDTH.negate(), constant(0))
+      .track(View.ROTATION, -120, 0)
+      .build()),
+  ROLL_OUT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.TRANSLATION_X, constant(0), dimension(Dimension.WIDTH))
+      .track(View.ROTATION, 0, 120)
+      .build()),
+  LANDING(TechniqueSpec.builder()
+      .track(Skill.QUINT_EASE_OUT, View.SCALE_X, 1.5f, 1f)
+      .track(Skill.QUINT_EASE_OUT, View.SCALE_Y, 1.5f, 1f)
+      .track(Skill.QUINT_EASE_OUT, View.ALPHA, 0, 1f)
+      .build()),
+  TAKING_OFF(TechniqueSpec.builder()
+      .track(Skill.QUINT_EASE_OUT, View.SCALE_X, 1f, 1.5f)
+      .track(Skill.QUINT_EASE_OUT, View.SCALE_Y, 1f, 1.5f)
+      .track(Skill.QUINT_EASE_OUT, View.ALPHA, 1, 0)
+      .build()),
+  DROP_OUT(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(Skill.BOUNCE_EASE_OUT, View.TRANSLATION_Y, DISTANCE_TO_TOP.negate(), constant(0))
+      .build()),
 
   /* ------------------------------------------------------------------------------------------- */
   /* Bounce
   /* ------------------------------------------------------------------------------------------- */
 
-  BOUNCE_IN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1, 1, 1),
-              ObjectAnimator.ofFloat(target, "scaleX", 0.3f, 1.05f, 0.9f, 1),
-              ObjectAnimator.ofFloat(target, "scaleY", 0.3f, 1.05f, 0.9f, 1));
-        }
-      };
-    }
-  },
-  BOUNCE_IN_DOWN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1, 1, 1),
-              ObjectAnimator.ofFloat(target, "translationY", -target.getHeight(), 30, -10, 0));
-        }
-      };
-    }
-  },
-  BOUNCE_IN_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "translationX", -target.getWidth(), 30, -10, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1, 1, 1));
-        }
-      };
-    }
-  },
-  BOUNCE_IN_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "translationX",
-                  target.getMeasuredWidth() + target.getWidth(), -30, 10, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1, 1, 1));
-        }
-      };
-    }
-  },
-  BOUNCE_IN_UP {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator
-                  .ofFloat(target, "translationY", target.getMeasuredHeight(), -30, 10, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1, 1, 1));
-        }
-      };
-    }
-  },
+  BOUNCE_IN(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1, 1, 1)
+      .track(View.SCALE_X, 0.3f, 1.05f, 0.9f, 1)
+      .track(View.SCALE_Y, 0.3f, 1.05f, 0.9f, 1)
+      .build()),
+  BOUNCE_IN_DOWN(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1, 1, 1)
+      .track(View.TRANSLATION_Y, dimension(Dimension.HEIGHT).negate(), constant(30), constant(-10), constant(0))
+      .build()),
+  BOUNCE_IN_LEFT(TechniqueSpec.builder()
+      .track(View.TRANSLATION_X, dimension(Dimension.WIDTH).negate(), constant(30), constant(-10), constant(0))
+      .track(View.ALPHA, 0, 1, 1, 1)
+      .build()),
+  BOUNCE_IN_RIGHT(TechniqueSpec.builder()
+      .track(View.TRANSLATION_X, dimension(Dimension.MEASURED_WIDTH).plus(Dimension.WIDTH),
+          constant(-30), constant(10), constant(0))
+      .track(View.ALPHA, 0, 1, 1, 1)
+      .build()),
+  BOUNCE_IN_UP(TechniqueSpec.builder()
+      .track(View.TRANSLATION_Y, dimension(Dimension.MEASURED_HEIGHT), constant(-30), constant(10), constant(0))
+      .track(View.ALPHA, 0, 1, 1, 1)
+      .build()),
 
   /* ------------------------------------------------------------------------------------------- */
   /* Fade
   /* ------------------------------------------------------------------------------------------- */
 
-  FADE_IN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1));
-        }
-      };
-    }
-  },
-  FADE_IN_UP {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "translationY", target.getHeight() / 4, 0));
-        }
-      };
-    }
-  },
-  FADE_IN_DOWN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "translationY", -target.getHeight() / 4, 0));
-        }
-      };
-    }
-  },
-  FADE_IN_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "translationX", -target.getWidth() / 4, 0));
-        }
-      };
-    }
-  },
-  FADE_IN_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "translationX", target.getWidth() / 4, 0));
-        }
-      };
-    }
-  },
-  FADE_OUT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0));
-        }
-      };
-    }
-  },
-  FADE_OUT_DOWN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "translationY", 0, target.getHeight() / 4));
-        }
-      };
-    }
-  },
-  FADE_OUT_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "translationX", 0, -target.getWidth() / 4));
-        }
-      };
-    }
-  },
-  FADE_OUT_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "translationX", 0, target.getWidth() / 4));
-        }
-      };
-    }
-  },
-  FADE_OUT_UP {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "translationY", 0, -target.getHeight() / 4));
-        }
-      };
-    }
-  },
+  FADE_IN(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .build()),
+  FADE_IN_UP(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(View.TRANSLATION_Y, dimension(Dimension.HEIGHT).dividedBy(4), constant(0))
+      .build()),
+  FADE_IN_DOWN(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(View.TRANSLATION_Y, dimension(Dimension.HEIGHT).negate().dividedBy(4), constant(0))
+      .build()),
+  FADE_IN_LEFT(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(View.TRANSLATION_X, dimension(Dimension.WIDTH).negate().dividedBy(4), constant(0))
+      .build()),
+  FADE_IN_RIGHT(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(View.TRANSLATION_X, dimension(Dimension.WIDTH).dividedBy(4), constant(0))
+      .build()),
+  FADE_OUT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .build()),
+  FADE_OUT_DOWN(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.TRANSLATION_Y, constant(0), dimension(Dimension.HEIGHT).dividedBy(4))
+      .build()),
+  FADE_OUT_LEFT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.TRANSLATION_X, constant(0), dimension(Dimension.WIDTH).negate().dividedBy(4))
+      .build()),
+  FADE_OUT_RIGHT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.TRANSLATION_X, constant(0), dimension(Dimension.WIDTH).dividedBy(4))
+      .build()),
+  FADE_OUT_UP(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.TRANSLATION_Y, constant(0), dimension(Dimension.HEIGHT).negate().dividedBy(4))
+      .build()),
 
   /* ------------------------------------------------------------------------------------------- */
   /* Flip
   /* ------------------------------------------------------------------------------------------- */
 
-  FLIP_IN_X {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "rotationX", 90, -15, 15, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0.25f, 0.5f, 0.75f, 1));
-        }
-      };
-    }
-  },
-  FLIP_OUT_X {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "rotationX", 0, 90),
-              ObjectAnimator.ofFloat(target, "alpha", 1, 0));
-        }
-      };
-    }
-  },
-  FLIP_IN_Y {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "rotationY", 90, -15, 15, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0.25f, 0.5f, 0.75f, 1));
-        }
-      };
-    }
-  },
-  FLIP_OUT_Y {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "rotationY", 0, 90),
-              ObjectAnimator.ofFloat(target, "alpha", 1, 0));
-        }
-      };
-    }
-  },
+  FLIP_IN_X(TechniqueSpec.builder()
+      .track(View.ROTATION_X, 90, -15, 15, 0)
+      .track(View.ALPHA, 0.25f, 0.5f, 0.75f, 1)
+      .build()),
+  FLIP_OUT_X(TechniqueSpec.builder()
+      .track(View.ROTATION_X, 0, 90)
+      .track(View.ALPHA, 1, 0)
+      .build()),
+  FLIP_IN_Y(TechniqueSpec.builder()
+      .track(View.ROTATION_Y, 90, -15, 15, 0)
+      .track(View.ALPHA, 0.25f, 0.5f, 0.75f, 1)
+      .build()),
+  FLIP_OUT_Y(TechniqueSpec.builder()
+      .track(View.ROTATION_Y, 0, 90)
+      .track(View.ALPHA, 1, 0)
+      .build()),
 
   /* ------------------------------------------------------------------------------------------- */
   /* Rotate
   /* ------------------------------------------------------------------------------------------- */
 
-  ROTATE {
-    @Override
-    public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "rotation", 360, 0));
-        }
-      };
-    }
-  },
-  ROTATE_IN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "rotation", -200, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1));
-        }
-      };
-    }
-  },
-  ROTATE_IN_DOWN_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = target.getPaddingLeft();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "rotation", -90, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y));
-        }
-      };
-    }
-  },
-  ROTATE_IN_DOWN_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = target.getWidth() - target.getPaddingRight();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "rotation", 90, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y));
-        }
-      };
-    }
-  },
-  ROTATE_IN_UP_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = target.getPaddingLeft();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "rotation", 90, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y));
-        }
-      };
-    }
-  },
-  ROTATE_IN_UP_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = target.getWidth() - target.getPaddingRight();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "rotation", -90, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y));
-        }
-      };
-    }
-  },
-  ROTATE_OUT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "rotation", 0, 200));
-        }
-      };
-    }
-  },
-  ROTATE_OUT_DOWN_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = target.getPaddingLeft();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "rotation", 0, 90),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y));
-        }
-      };
-    }
-  },
-  ROTATE_OUT_DOWN_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = target.getWidth() - target.getPaddingRight();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "rotation", 0, -90),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y));
-        }
-      };
-    }
-  },
-  ROTATE_OUT_UP_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = target.getPaddingLeft();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "rotation", 0, -90),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y));
-        }
-      };
-    }
-  },
-  ROTATE_OUT_UP_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          float x = target.getWidth() - target.getPaddingRight();
-          float y = target.getHeight() - target.getPaddingBottom();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "rotation", 0, 90),
-              ObjectAnimator.ofFloat(target, "pivotX", x, x),
-              ObjectAnimator.ofFloat(target, "pivotY", y, y));
-        }
-      };
-    }
-  },
+  ROTATE(TechniqueSpec.builder()
+      .track(View.ROTATION, 360, 0)
+      .build()),
+  ROTATE_IN(TechniqueSpec.builder()
+      .track(View.ROTATION, -200, 0)
+      .track(View.ALPHA, 0, 1)
+      .build()),
+  ROTATE_IN_DOWN_LEFT(TechniqueSpec.builder()
+      .track(View.ROTATION, -90, 0)
+      .track(View.ALPHA, 0, 1)
+      .hold(PIVOT_X, CONTENT_LEFT, 2)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 2)
+      .build()),
+  ROTATE_IN_DOWN_RIGHT(TechniqueSpec.builder()
+      .track(View.ROTATION, 90, 0)
+      .track(View.ALPHA, 0, 1)
+      .hold(PIVOT_X, CONTENT_RIGHT, 2)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 2)
+      .build()),
+  ROTATE_IN_UP_LEFT(TechniqueSpec.builder()
+      .track(View.ROTATION, 90, 0)
+      .track(View.ALPHA, 0, 1)
+      .hold(PIVOT_X, CONTENT_LEFT, 2)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 2)
+      .build()),
+  ROTATE_IN_UP_RIGHT(TechniqueSpec.builder()
+      .track(View.ROTATION, -90, 0)
+      .track(View.ALPHA, 0, 1)
+      .hold(PIVOT_X, CONTENT_RIGHT, 2)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 2)
+      .build()),
+  ROTATE_OUT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.ROTATION, 0, 200)
+      .build()),
+  ROTATE_OUT_DOWN_LEFT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.ROTATION, 0, 90)
+      .hold(PIVOT_X, CONTENT_LEFT, 2)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 2)
+      .build()),
+  ROTATE_OUT_DOWN_RIGHT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.ROTATION, 0, -90)
+      .hold(PIVOT_X, CONTENT_RIGHT, 2)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 2)
+      .build()),
+  ROTATE_OUT_UP_LEFT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.ROTATION, 0, -90)
+      .hold(PIVOT_X, CONTENT_LEFT, 2)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 2)
+      .build()),
+  ROTATE_OUT_UP_RIGHT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.ROTATION, 0, 90)
+      .hold(PIVOT_X, CONTENT_RIGHT, 2)
+      .hold(PIVOT_Y, CONTENT_BOTTOM, 2)
+      .build()),
 
   /* ------------------------------------------------------------------------------------------- */
   /* Slide
   /* ------------------------------------------------------------------------------------------- */
 
-  SLIDE_IN_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          ViewGroup parent = (ViewGroup) target.getParent();
-          int distance = parent.getWidth() - target.getLeft();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "translationX", -distance, 0));
-        }
-      };
-    }
-  },
-  SLIDE_IN_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          ViewGroup parent = (ViewGroup) target.getParent();
-          int distance = parent.getWidth() - target.getLeft();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "translationX", distance, 0));
-        }
-      };
-    }
-  },
-  SLIDE_IN_UP {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          ViewGroup parent = (ViewGroup) target.getParent();
-          int distance = parent.getHeight() - target.getTop();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "translationY", distance, 0));
-        }
-      };
-    }
-  },
-  SLIDE_IN_DOWN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          int distance = target.getTop() + target.getHeight();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1),
-              ObjectAnimator.ofFloat(target, "translationY", -distance, 0));
-        }
-      };
-    }
-  },
-  SLIDE_OUT_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "translationX", 0, -target.getRight()));
-        }
-      };
-    }
-  },
-  SLIDE_OUT_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          ViewGroup parent = (ViewGroup) target.getParent();
-          int distance = parent.getWidth() - target.getLeft();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "translationX", 0, distance));
-        }
-      };
-    }
-  },
-  SLIDE_OUT_UP {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "translationY", 0, -target.getBottom()));
-        }
-      };
-    }
-  },
-  SLIDE_OUT_DOWN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          ViewGroup parent = (ViewGroup) target.getParent();
-          int distance = parent.getHeight() - target.getTop();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0),
-              ObjectAnimator.ofFloat(target, "translationY", 0, distance));
-        }
-      };
-    }
-  },
+  SLIDE_IN_LEFT(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(View.TRANSLATION_X, DISTANCE_TO_PARENT_RIGHT.negate(), constant(0))
+      .build()),
+  SLIDE_IN_RIGHT(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(View.TRANSLATION_X, DISTANCE_TO_PARENT_RIGHT, constant(0))
+      .build()),
+  SLIDE_IN_UP(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(View.TRANSLATION_Y, DISTANCE_TO_PARENT_BOTTOM, constant(0))
+      .build()),
+  SLIDE_IN_DOWN(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1)
+      .track(View.TRANSLATION_Y, DISTANCE_TO_TOP.negate(), constant(0))
+      .build()),
+  SLIDE_OUT_LEFT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.TRANSLATION_X, constant(0), dimension(Dimension.RIGHT).negate())
+      .build()),
+  SLIDE_OUT_RIGHT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.TRANSLATION_X, constant(0), DISTANCE_TO_PARENT_RIGHT)
+      .build()),
+  SLIDE_OUT_UP(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.TRANSLATION_Y, constant(0), dimension(Dimension.BOTTOM).negate())
+      .build()),
+  SLIDE_OUT_DOWN(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0)
+      .track(View.TRANSLATION_Y, constant(0), DISTANCE_TO_PARENT_BOTTOM)
+      .build()),
 
   /* ------------------------------------------------------------------------------------------- */
   /* Zoom
   /* ------------------------------------------------------------------------------------------- */
 
-  ZOOM_IN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "scaleX", 0.45f, 1),
-              ObjectAnimator.ofFloat(target, "scaleY", 0.45f, 1),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1));
-        }
-      };
-    }
-  },
-  ZOOM_IN_DOWN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "scaleX", 0.1f, 0.475f, 1),
-              ObjectAnimator.ofFloat(target, "scaleY", 0.1f, 0.475f, 1),
-              ObjectAnimator.ofFloat(target, "translationY", -target.getBottom(), 60, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1, 1));
-        }
-      };
-    }
-  },
-  ZOOM_IN_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "scaleX", 0.1f, 0.475f, 1),
-              ObjectAnimator.ofFloat(target, "scaleY", 0.1f, 0.475f, 1),
-              ObjectAnimator.ofFloat(target, "translationX",
-                  target.getWidth() + target.getPaddingRight(), -48, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1, 1));
-        }
-      };
-    }
-  },
-  ZOOM_IN_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(
-              ObjectAnimator.ofFloat(target, "scaleX", 0.1f, 0.475f, 1),
-              ObjectAnimator.ofFloat(target, "scaleY", 0.1f, 0.475f, 1),
-              ObjectAnimator.ofFloat(target, "translationX",
-                  target.getWidth() + target.getPaddingRight(), -48, 0),
-              ObjectAnimator.ofFloat(target, "alpha", 0, 1, 1));
-        }
-      };
-    }
-  },
-  ZOOM_IN_UP {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          ViewGroup parent = (ViewGroup) target.getParent();
-          int distance = parent.getHeight() - target.getTop();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 0, 1, 1),
-              ObjectAnimator.ofFloat(target, "scaleX", 0.1f, 0.475f, 1),
-              ObjectAnimator.ofFloat(target, "scaleY", 0.1f, 0.475f, 1),
-              ObjectAnimator.ofFloat(target, "translationY", distance, -60, 0));
-        }
-      };
-    }
-  },
-  ZOOM_OUT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 0, 0),
-              ObjectAnimator.ofFloat(target, "scaleX", 1, 0.3f, 0),
-              ObjectAnimator.ofFloat(target, "scaleY", 1, 0.3f, 0));
-        }
-      };
-    }
-  },
-  ZOOM_OUT_DOWN {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          ViewGroup parent = (ViewGroup) target.getParent();
-          int distance = parent.getHeight() - target.getTop();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 1, 0),
-              ObjectAnimator.ofFloat(target, "scaleX", 1, 0.475f, 0.1f),
-              ObjectAnimator.ofFloat(target, "scaleY", 1, 0.475f, 0.1f),
-              ObjectAnimator.ofFloat(target, "translationY", 0, -60, distance));
-        }
-      };
-    }
-  },
-  ZOOM_OUT_LEFT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 1, 0),
-              ObjectAnimator.ofFloat(target, "scaleX", 1, 0.475f, 0.1f),
-              ObjectAnimator.ofFloat(target, "scaleY", 1, 0.475f, 0.1f),
-              ObjectAnimator.ofFloat(target, "translationX", 0, 42, -target.getRight()));
-        }
-      };
-    }
-  },
-  ZOOM_OUT_RIGHT {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          ViewGroup parent = (ViewGroup) target.getParent();
-          int distance = parent.getWidth() - parent.getLeft();
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 1, 0),
-              ObjectAnimator.ofFloat(target, "scaleX", 1, 0.475f, 0.1f),
-              ObjectAnimator.ofFloat(target, "scaleY", 1, 0.475f, 0.1f),
-              ObjectAnimator.ofFloat(target, "translationX", 0, -42, distance));
-        }
-      };
-    }
-  },
-  ZOOM_OUT_UP {
-    @Override public SimpleAnimator getAnimator() {
-      return new SimpleAnimator() {
-
-        @Override protected void prepare(View target) {
-          getAnimatorSet().playTogether(ObjectAnimator.ofFloat(target, "alpha", 1, 1, 0),
-              ObjectAnimator.ofFloat(target, "scaleX", 1, 0.475f, 0.1f),
-              ObjectAnimator.ofFloat(target, "scaleY", 1, 0.475f, 0.1f),
-              ObjectAnimator.ofFloat(target, "translationY", 0, 60, -target.getBottom()));
-        }
-      };
-    }
-  };
+  ZOOM_IN(TechniqueSpec.builder()
+      .track(View.SCALE_X, 0.45f, 1)
+      .track(View.SCALE_Y, 0.45f, 1)
+      .track(View.ALPHA, 0, 1)
+      .build()),
+  ZOOM_IN_DOWN(TechniqueSpec.builder()
+      .track(View.SCALE_X, 0.1f, 0.475f, 1)
+      .track(View.SCALE_Y, 0.1f, 0.475f, 1)
+      .track(View.TRANSLATION_Y, dimension(Dimension.BOTTOM).negate(), constant(60), constant(0))
+      .track(View.ALPHA, 0, 1, 1)
+      .build()),
+  ZOOM_IN_LEFT(TechniqueSpec.builder()
+      .track(View.SCALE_X, 0.1f, 0.475f, 1)
+      .track(View.SCALE_Y, 0.1f, 0.475f, 1)
+      .track(View.TRANSLATION_X, dimension(Dimension.WIDTH).plus(Dimension.PADDING_RIGHT), constant(-48), constant(0))
+      .track(View.ALPHA, 0, 1, 1)
+      .build()),
+  ZOOM_IN_RIGHT(TechniqueSpec.builder()
+      .track(View.SCALE_X, 0.1f, 0.475f, 1)
+      .track(View.SCALE_Y, 0.1f, 0.475f, 1)
+      .track(View.TRANSLATION_X, dimension(Dimension.WIDTH).plus(Dimension.PADDING_RIGHT), constant(-48), constant(0))
+      .track(View.ALPHA, 0, 1, 1)
+      .build()),
+  ZOOM_IN_UP(TechniqueSpec.builder()
+      .track(View.ALPHA, 0, 1, 1)
+      .track(View.SCALE_X, 0.1f, 0.475f, 1)
+      .track(View.SCALE_Y, 0.1f, 0.475f, 1)
+      .track(View.TRANSLATION_Y, DISTANCE_TO_PARENT_BOTTOM, constant(-60), constant(0))
+      .build()),
+  ZOOM_OUT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 0, 0)
+      .track(View.SCALE_X, 1, 0.3f, 0)
+      .track(View.SCALE_Y, 1, 0.3f, 0)
+      .build()),
+  ZOOM_OUT_DOWN(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 1, 0)
+      .track(View.SCALE_X, 1, 0.475f, 0.1f)
+      .track(View.SCALE_Y, 1, 0.475f, 0.1f)
+      .track(View.TRANSLATION_Y, constant(0), constant(-60), DISTANCE_TO_PARENT_BOTTOM)
+      .build()),
+  ZOOM_OUT_LEFT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 1, 0)
+      .track(View.SCALE_X, 1, 0.475f, 0.1f)
+      .track(View.SCALE_Y, 1, 0.475f, 0.1f)
+      .track(View.TRANSLATION_X, constant(0), constant(42), dimension(Dimension.RIGHT).negate())
+      .build()),
+  ZOOM_OUT_RIGHT(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 1, 0)
+      .track(View.SCALE_X, 1, 0.475f, 0.1f)
+      .track(View.SCALE_Y, 1, 0.475f, 0.1f)
+      .track(View.TRANSLATION_X, constant(0), constant(-42),
+          dimension(Dimension.PARENT_WIDTH).minus(Dimension.PARENT_LEFT))
+      .build()),
+  ZOOM_OUT_UP(TechniqueSpec.builder()
+      .track(View.ALPHA, 1, 1, 0)
+      .track(View.SCALE_X, 1, 0.475f, 0.1f)
+      .track(View.SCALE_Y, 1, 0.475f, 0.1f)
+      .track(View.TRANSLATION_Y, constant(0), constant(60), dimension(Dimension.BOTTOM).negate())
+      .build());
+
+  private final TechniqueSpec spec;
+
+  Technique(TechniqueSpec spec) {
+    this.spec = spec;
+  }
 
   /**
    * Get the animator
    *
    * @return A new {@link SimpleAnimator}
    */
-  public abstract SimpleAnimator getAnimator();
+  public SimpleAnimator getAnimator() {
+    return spec.getAnimator();
+  }
+
+  /**
+   * Get the declarative description of this technique. Use it as a starting point for your own {@link TechniqueSpec}s.
+   *
+   * @return the {@link TechniqueSpec} this technique plays.
+   */
+  public TechniqueSpec getSpec() {
+    return spec;
+  }
 
   /**
    * Compose a new animation.
@@ -959,7 +461,7 @@ public enum Technique {
    * @return A {@link Composer} object used to set the duration, delay, and other parameters for the animation.
    */
   public Composer getComposer() {
-    return new Composer(getAnimator());
+    return spec.getComposer();
   }
 
   /**
@@ -973,15 +475,65 @@ public enum Technique {
     return getComposer().playOn(target);
   }
 
+  /**
+   * Play the animation on the children of a view group, one after another.
+   *
+   * @param parent
+   *     the view group whose children are animated
+   * @return A {@link Cascade} object used to set the stagger, duration, and other parameters for the animations.
+   * @throws IllegalArgumentException
+   *     if the parent is {@code null}
+   */
+  public Cascade cascade(ViewGroup parent) {
+    if (parent == null) {
+      throw new IllegalArgumentException("parent must not be null");
+    }
+    return new Cascade(spec, parent, null);
+  }
+
+  /**
+   * Play the animation on a list of views, one after another.
+   *
+   * @param views
+   *     the views, in the order they start
+   * @return A {@link Cascade} object used to set the stagger, duration, and other parameters for the animations.
+   * @throws IllegalArgumentException
+   *     if the list is {@code null}
+   */
+  public Cascade cascade(List<View> views) {
+    if (views == null) {
+      throw new IllegalArgumentException("views must not be null");
+    }
+    return new Cascade(spec, null, views);
+  }
+
   /**
    * An abstract class used in each {@link Technique} that plays a set of animations on a view. The class also allows you to
    * set listeners on the animation, delays, duration, etc.
    */
   public static abstract class SimpleAnimator {
 
+    private static final Interpolator DEFAULT_INTERPOLATOR = new AccelerateDecelerateInterpolator();
+
     private final AnimatorSet animatorSet = new AnimatorSet();
     private long duration = 1000;
     private View target;
+    private Path path;
+    private Skill pathSkill;
+    private boolean pathRotate;
+    private boolean interpolated;
+    private Interpolator interpolator;
+    private Backend backend = Backend.ANIMATOR_SET;
+    private LayerPolicy layerPolicy = LayerPolicy.NEVER;
+    private LayerListener layerListener;
+    private boolean snapshot;
+    private ViewSnapshot viewSnapshot;
+    private Controller controller;
+    private Composer composer;
+    /** The callbacks of the composers, kept across runs so a pooled run does not allocate a new list. */
+    private final List<Animator.AnimatorListener> composerCallbacks = new ArrayList<>();
+    private Animator.AnimatorListener finishListener;
+    private int generation;
 
     /**
      * Sets up the {@link AnimatorSet} to play the animations on the view.
@@ -1025,6 +577,46 @@ public enum Technique {
      */
     public SimpleAnimator setInterpolator(Interpolator interpolator) {
       animatorSet.setInterpolator(interpolator);
+      this.interpolator = interpolator;
+      interpolated |= interpolator != null;
+      return this;
+    }
+
+    /**
+     * Choose how the animation is played. Animators that are not built from a {@link TechniqueSpec} always use the
+     * {@link AnimatorSet}.
+     *
+     * @param backend
+     *     the {@link Backend}
+     * @return this {@link SimpleAnimator} object for chaining method calls
+     */
+    public SimpleAnimator setBackend(Backend backend) {
+      this.backend = backend;
+      return this;
+    }
+
+    /**
+     * Choose when the target view gets a hardware layer while the animation plays.
+     *
+     * @param layerPolicy
+     *     the {@link LayerPolicy}
+     * @return this {@link SimpleAnimator} object for chaining method calls
+     */
+    public SimpleAnimator setLayerPolicy(LayerPolicy layerPolicy) {
+      this.layerPolicy = layerPolicy;
+      return this;
+    }
+
+    /**
+     * Play the animation on a bitmap of the target view instead of the view itself. Ignored if the view has no size
+     * or parent, a path is followed, or the device runs a version older than API 18.
+     *
+     * @param snapshot
+     *     {@code true} to animate a snapshot of the view
+     * @return this {@link SimpleAnimator} object for chaining method calls
+     */
+    public SimpleAnimator setSnapshot(boolean snapshot) {
+      this.snapshot = snapshot;
       return this;
     }
 
@@ -1069,10 +661,34 @@ public enum Technique {
       return this;
     }
 
+    /**
+     * Move the view along a path while the animation plays. The path is played together with the technique's own
+     * animations, so it should not be combined with techniques that also animate the translation.
+     *
+     * @param path
+     *     the path, in translation coordinates, or {@code null} to not follow a path
+     * @param skill
+     *     the curve applied to the progress along the path
+     * @param rotate
+     *     {@code true} to also rotate the view to follow the direction of the path
+     * @return this {@link SimpleAnimator} object for chaining method calls
+     * @see PathMotion
+     */
+    public SimpleAnimator setPath(Path path, Skill skill, boolean rotate) {
+      this.path = path;
+      this.pathSkill = skill;
+      this.pathRotate = rotate;
+      return this;
+    }
+
     /**
      * Reset the view to default values.
      */
     public void reset() {
+      reset(target);
+    }
+
+    static void reset(View target) {
       target.setAlpha(1);
       target.setScaleX(1);
       target.setScaleY(1);
@@ -1092,10 +708,174 @@ public enum Technique {
      */
     public Controller start() {
       reset();
-      prepare(target);
-      animatorSet.setDuration(duration);
-      animatorSet.start();
-      return new Controller(this);
+      boolean snapshotted = snapshot && path == null && attachSnapshot();
+      if (!snapshotted && shouldPromote()) {
+        if (layerListener == null) {
+          layerListener = new LayerListener();
+        }
+        layerListener.promote(target);
+        animatorSet.addListener(layerListener);
+      }
+      if (finishListener != null) {
+        // Added after the callbacks, so the animator is recycled only after every callback saw the end.
+        animatorSet.addListener(finishListener);
+      }
+      if (snapshotted || !startOnView()) {
+        prepare(target);
+        if (snapshotted) {
+          viewSnapshot.retarget(animatorSet);
+        } else if (path != null) {
+          animatorSet.playTogether(PathMotion.of(path).animate(target, pathSkill, pathRotate));
+        }
+        animatorSet.setDuration(duration);
+        animatorSet.start();
+      }
+      if (controller == null) {
+        controller = new Controller(this, generation);
+      }
+      return controller;
+    }
+
+    private boolean attachSnapshot() {
+      if (viewSnapshot == null) {
+        viewSnapshot = new ViewSnapshot();
+      }
+      if (!viewSnapshot.attach(target)) {
+        return false;
+      }
+      viewSnapshot.listen(animatorSet);
+      return true;
+    }
+
+    private boolean shouldPromote() {
+      switch (layerPolicy) {
+        case ALWAYS:
+          return target.getLayerType() != View.LAYER_TYPE_HARDWARE;
+        case AUTO:
+          return target.getLayerType() == View.LAYER_TYPE_NONE
+              && target.isHardwareAccelerated()
+              && benefitsFromLayer(target)
+              && countViews(target, LayerPolicy.AUTO_MIN_VIEWS) >= LayerPolicy.AUTO_MIN_VIEWS;
+        default:
+          return false;
+      }
+    }
+
+    private static int countViews(View view, int limit) {
+      int count = 1;
+      if (view instanceof ViewGroup) {
+        ViewGroup group = (ViewGroup) view;
+        for (int i = 0; i < group.getChildCount() && count < limit; i++) {
+          count += countViews(group.getChildAt(i), limit - count);
+        }
+      }
+      return count;
+    }
+
+    /**
+     * Check if the animation changes properties that are expensive to draw without a layer: alpha on a view with
+     * overlapping content, or a rotation around the X or Y axis.
+     *
+     * @return {@code true} if a hardware layer makes the animation cheaper. Defaults to {@code true}, since the
+     * properties of a custom animator are unknown.
+     */
+    boolean benefitsFromLayer(View target) {
+      return true;
+    }
+
+    /**
+     * Play the animation without the {@link AnimatorSet}, for example with a {@link android.view.ViewPropertyAnimator}.
+     *
+     * @return {@code false} to prepare and play the {@link AnimatorSet}.
+     */
+    boolean startOnView() {
+      return false;
+    }
+
+    boolean isStarted() {
+      return animatorSet.isStarted();
+    }
+
+    boolean isRunning() {
+      return animatorSet.isRunning();
+    }
+
+    void cancel() {
+      animatorSet.cancel();
+    }
+
+    long getDuration() {
+      return duration;
+    }
+
+    Interpolator getInterpolator() {
+      return interpolator;
+    }
+
+    Backend getBackend() {
+      return backend;
+    }
+
+    boolean hasPath() {
+      return path != null;
+    }
+
+    /**
+     * @return the number of times this animator was recycled. A {@link Controller} or {@link Composer} only acts on
+     * the animator while the generation it was created in is current.
+     */
+    int getGeneration() {
+      return generation;
+    }
+
+    /**
+     * @return the {@link Composer} of this animator, reset to its defaults.
+     */
+    Composer composer() {
+      if (composer == null) {
+        composer = new Composer(this);
+      }
+      composer.reset();
+      return composer;
+    }
+
+    /**
+     * Set a listener that is notified after all callbacks when the animation ends or is cancelled.
+     */
+    void setFinishListener(Animator.AnimatorListener listener) {
+      finishListener = listener;
+    }
+
+    /**
+     * Clear the state of a finished animation so the animator can play again.
+     *
+     * @return {@code false} if the animator can not be reused.
+     */
+    boolean recycle() {
+      if (path != null) {
+        return false;
+      }
+      animatorSet.removeAllListeners();
+      if (interpolated) {
+        // The set passed its interpolator on to the children, so give them back the default one.
+        animatorSet.setInterpolator(null);
+        for (Animator child : animatorSet.getChildAnimations()) {
+          child.setInterpolator(DEFAULT_INTERPOLATOR);
+        }
+        interpolated = false;
+      }
+      animatorSet.setTarget(null);
+      target = null;
+      duration = 1000;
+      interpolator = null;
+      backend = Backend.ANIMATOR_SET;
+      layerPolicy = LayerPolicy.NEVER;
+      snapshot = false;
+      // Handles from the finished run must not reach the next one.
+      generation++;
+      controller = null;
+      composer = null;
+      return true;
     }
 
     /**
@@ -1119,14 +899,36 @@ public enum Technique {
    */
   public static final class Composer {
 
-    private final List<Animator.AnimatorListener> callbacks = new ArrayList<>();
+    private final List<Animator.AnimatorListener> callbacks;
     private final SimpleAnimator animator;
+    private final int generation;
     private Interpolator interpolator;
     private long duration = 1000;
     private long delay;
+    private Path path;
+    private Skill pathSkill;
+    private boolean pathRotate;
+    private Backend backend = Backend.ANIMATOR_SET;
+    private LayerPolicy layerPolicy = LayerPolicy.NEVER;
+    private boolean snapshot;
 
     protected Composer(SimpleAnimator animator) {
       this.animator = animator;
+      this.generation = animator.getGeneration();
+      this.callbacks = animator.composerCallbacks;
+    }
+
+    void reset() {
+      callbacks.clear();
+      interpolator = null;
+      duration = 1000;
+      delay = 0;
+      path = null;
+      pathSkill = null;
+      pathRotate = false;
+      backend = Backend.ANIMATOR_SET;
+      layerPolicy = LayerPolicy.NEVER;
+      snapshot = false;
     }
 
     /**
@@ -1165,6 +967,83 @@ public enum Technique {
       return this;
     }
 
+    /**
+     * Move the view along a path while the animation plays.
+     *
+     * @param path
+     *     the path, in translation coordinates
+     * @param skill
+     *     the curve applied to the progress along the path
+     * @return this {@link Composer} object for chaining method calls.
+     * @see PathMotion
+     */
+    public Composer followPath(Path path, Skill skill) {
+      return followPath(path, skill, false);
+    }
+
+    /**
+     * Move the view along a path while the animation plays.
+     *
+     * @param path
+     *     the path, in translation coordinates
+     * @param skill
+     *     the curve applied to the progress along the path
+     * @param rotate
+     *     {@code true} to also rotate the view to follow the direction of the path
+     * @return this {@link Composer} object for chaining method calls.
+     * @see PathMotion
+     */
+    public Composer followPath(Path path, Skill skill, boolean rotate) {
+      this.path = path;
+      this.pathSkill = skill;
+      this.pathRotate = rotate;
+      return this;
+    }
+
+    /**
+     * Choose how the animation is played. The default is {@link Backend#ANIMATOR_SET}.
+     *
+     * @param backend
+     *     the {@link Backend}
+     * @return this {@link Composer} object for chaining method calls.
+     */
+    public Composer backend(Backend backend) {
+      this.backend = backend;
+      return this;
+    }
+
+    /**
+     * Give the target view a hardware layer while the animation plays. The previous layer type is restored when the
+     * animation ends or is cancelled. The default is {@link LayerPolicy#NEVER}.
+     *
+     * @param layerPolicy
+     *     the {@link LayerPolicy}
+     * @return this {@link Composer} object for chaining method calls.
+     */
+    public Composer layer(LayerPolicy layerPolicy) {
+      this.layerPolicy = layerPolicy;
+      return this;
+    }
+
+    /**
+     * <p>Animate a bitmap of the target view instead of the view itself. The view is drawn once, a proxy that draws the
+     * bitmap is added to the parent's overlay in its place, and the view is swapped back with the final alpha,
+     * translation, scale and rotation when the animation ends or is cancelled. Drawing each frame then costs the same
+     * no matter how deep the view's hierarchy is, with or without hardware acceleration.</p>
+     *
+     * <p>The view is invisible while the animation plays, so changes to its content are not shown until the end. The
+     * snapshot is always played with an {@link AnimatorSet} and without a hardware layer. It is ignored if the view has
+     * no size or parent, a path is followed, or the device runs a version older than API 18.</p>
+     *
+     * @param snapshot
+     *     {@code true} to animate a snapshot of the view
+     * @return this {@link Composer} object for chaining method calls.
+     */
+    public Composer snapshot(boolean snapshot) {
+      this.snapshot = snapshot;
+      return this;
+    }
+
     /**
      * Adds a listener to the set of listeners that are sent events through the life of an animation, such as start, repeat, and
      * end.
@@ -1174,7 +1053,7 @@ public enum Technique {
      * @return this {@link Composer} object for chaining method calls.
      */
     public Composer withListener(Animator.AnimatorListener listener) {
-      callbacks.add(listener);
+      addCallback(listener);
       return this;
     }
 
@@ -1214,7 +1093,7 @@ public enum Technique {
      * @return this {@link Composer} object for chaining method calls.
      */
     public Composer onStart(final AnimatorCallback callback) {
-      callbacks.add(new EmptyAnimatorListener() {
+      addCallback(new EmptyAnimatorListener() {
 
         @Override public void onAnimationStart(Animator animation) {
           callback.call(animator);
@@ -1231,7 +1110,7 @@ public enum Technique {
      * @return this {@link Composer} object for chaining method calls.
      */
     public Composer onEnd(final AnimatorCallback callback) {
-      callbacks.add(new EmptyAnimatorListener() {
+      addCallback(new EmptyAnimatorListener() {
 
         @Override public void onAnimationEnd(Animator animation) {
           callback.call(animator);
@@ -1248,7 +1127,7 @@ public enum Technique {
      * @return this {@link Composer} object for chaining method calls.
      */
     public Composer onCancel(final AnimatorCallback callback) {
-      callbacks.add(new EmptyAnimatorListener() {
+      addCallback(new EmptyAnimatorListener() {
 
         @Override public void onAnimationCancel(Animator animation) {
           callback.call(animator);
@@ -1265,7 +1144,7 @@ public enum Technique {
      * @return this {@link Composer} object for chaining method calls.
      */
     public Composer onRepeat(final AnimatorCallback callback) {
-      callbacks.add(new EmptyAnimatorListener() {
+      addCallback(new EmptyAnimatorListener() {
 
         @Override public void onAnimationRepeat(Animator animation) {
           callback.call(animator);
@@ -1274,33 +1153,57 @@ public enum Technique {
       return this;
     }
 
+    private void addCallback(Animator.AnimatorListener listener) {
+      // Shared with the composers of later runs of a pooled animator, so a stale composer must not add to it.
+      if (animator.getGeneration() == generation) {
+        callbacks.add(listener);
+      }
+    }
+
     /**
-     * Play the animation
+     * Play the animation. A composer from a pooled animator can not be played again once its animation ended or was
+     * cancelled, since the animator may already play for someone else. The call is then ignored and the returned
+     * {@link Controller} does nothing.
      *
      * @param target
      *     the view to play the animation on.
      * @return the animation's {@link Controller} which contains methods to stop or check if the animation is running.
      */
     public Controller playOn(View target) {
+      if (animator.getGeneration() != generation) {
+        return new Controller(animator, generation);
+      }
       return animator.setTarget(target)
           .setDuration(duration)
           .setInterpolator(interpolator)
           .setStartDelay(delay)
           .setCallbacks(callbacks)
+          .setPath(path, pathSkill, pathRotate)
+          .setBackend(backend)
+          .setLayerPolicy(layerPolicy)
+          .setSnapshot(snapshot)
           .start();
     }
 
   }
 
   /**
-   * Allows you to stop the animation and check if the animation has started and is running.
+   * Allows you to stop the animation and check if the animation has started and is running. The controller of a pooled
+   * animator goes stale when the animation ends or is cancelled: it then reports that nothing is running and {@link
+   * #stop(boolean)} does nothing, even after the animator was reused for another view.
    */
   public static final class Controller {
 
     private final SimpleAnimator animator;
+    private final int generation;
 
-    private Controller(SimpleAnimator animator) {
+    private Controller(SimpleAnimator animator, int generation) {
       this.animator = animator;
+      this.generation = generation;
+    }
+
+    private boolean isCurrent() {
+      return animator.getGeneration() == generation;
     }
 
     /**
@@ -1308,9 +1211,8 @@ public enum Technique {
      *
      * @return Whether the Animator has been started and not yet ended.
      */
-    @TargetApi(VERSION_CODES.ICE_CREAM_SANDWICH)
     public boolean isStarted() {
-      return animator.getAnimatorSet().isStarted();
+      return isCurrent() && animator.isStarted();
     }
 
     /**
@@ -1319,7 +1221,7 @@ public enum Technique {
      * @return Whether this AnimatorSet has been started and has not yet ended.
      */
     public boolean isRunning() {
-      return animator.getAnimatorSet().isRunning();
+      return isCurrent() && animator.isRunning();
     }
 
     /**
@@ -1334,9 +1236,132 @@ public enum Technique {
      *     {@code true} to reset the view to default values after cancelling.
      */
     public void stop(boolean reset) {
-      animator.getAnimatorSet().cancel();
+      if (!isCurrent()) {
+        return;
+      }
+      // A pooled animator lets go of its target when it is cancelled, so keep it for the reset.
+      View target = animator.getTarget();
+      animator.cancel();
       if (reset) {
-        animator.reset();
+        if (!isCurrent()) {
+          SimpleAnimator.reset(target);
+        } else {
+          animator.reset();
+        }
+      }
+    }
+
+  }
+
+  /**
+   * How a technique is played.
+   */
+  public enum Backend {
+    /**
+     * Use an {@link AnimatorSet} of {@link android.animation.ObjectAnimator}s. This is the default.
+     */
+    ANIMATOR_SET,
+    /**
+     * Use the view's {@link android.view.ViewPropertyAnimator} when every track of the technique animates alpha,
+     * translation, scale or rotation from one value to another, no path is followed and the device runs API 16 or
+     * higher. Otherwise use an {@link AnimatorSet}.
+     *
+     * <p>The {@link android.view.ViewPropertyAnimator} is shared with the app: while the technique plays, the listener
+     * set with {@link android.view.ViewPropertyAnimator#setListener(Animator.AnimatorListener)} is replaced, and
+     * stopping the technique cancels every {@link android.view.ViewPropertyAnimator} animation on the view. When the
+     * technique ends, the listener is cleared and the duration, start delay and, from API 18, the interpolator are set
+     * back. Only use it on views that the app does not animate with {@link View#animate()} at the same time.</p>
+     */
+    VIEW_PROPERTY,
+    /**
+     * Use one {@link android.animation.ValueAnimator} that sets every property of the view on each frame, instead of
+     * one {@link android.animation.ObjectAnimator} per property. The view follows the same values. Falls back to an
+     * {@link AnimatorSet} if a track has a single keyframe or a path is followed.
+     */
+    VALUE_ANIMATOR
+  }
+
+  /**
+   * When a technique gives its target view a hardware layer. With a layer, the view is drawn once into a texture and
+   * the animated alpha and rotation are applied to the texture, instead of drawing the view's subtree on every frame.
+   * Each layer costs a texture the size of the view, so use {@link #getActiveCount()} and {@link #getPromotionCount()}
+   * to audit the memory cost.
+   */
+  public enum LayerPolicy {
+    /**
+     * Never change the layer type of the view.
+     */
+    NEVER,
+    /**
+     * Use a hardware layer for every animation, unless the view already has one.
+     */
+    ALWAYS,
+    /**
+     * Use a hardware layer if the view is hardware accelerated, has no layer yet, has a subtree of at least 4 views,
+     * and the technique animates alpha on overlapping content or rotates around the X or Y axis.
+     */
+    AUTO;
+
+    static final int AUTO_MIN_VIEWS = 4;
+
+    private static int promotions;
+    private static int active;
+
+    /**
+     * @return the number of times a view was given a hardware layer for an animation.
+     */
+    public static synchronized int getPromotionCount() {
+      return promotions;
+    }
+
+    /**
+     * @return the number of views that have a hardware layer for an animation right now.
+     */
+    public static synchronized int getActiveCount() {
+      return active;
+    }
+
+    /**
+     * Reset the promotion count. The active count is not changed.
+     */
+    public static synchronized void resetPromotionCount() {
+      promotions = 0;
+    }
+
+    static synchronized void onPromoted() {
+      promotions++;
+      active++;
+    }
+
+    static synchronized void onRestored() {
+      active--;
+    }
+  }
+
+  /**
+   * Gives a view a hardware layer and restores its previous layer type when the animation ends or is cancelled.
+   */
+  private static final class LayerListener extends EmptyAnimatorListener {
+
+    private View view;
+    private int previousLayerType;
+
+    void promote(View view) {
+      this.view = view;
+      previousLayerType = view.getLayerType();
+      view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+      if (view.getWindowToken() != null) {
+        // Build the layer now, so the first frame does not have to.
+        view.buildLayer();
+      }
+      LayerPolicy.onPromoted();
+    }
+
+    @Override public void onAnimationEnd(Animator animation) {
+      if (view != null) {
+        view.setLayerType(previousLayerType, null);
+        view = null;
+        LayerPolicy.onRestored();
       }
     }
 
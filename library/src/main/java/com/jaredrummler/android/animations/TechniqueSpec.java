@@ -0,0 +1,894 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.animation.Animator;
+import android.animation.ObjectAnimator;
+import android.os.Build;
+import android.os.Build.VERSION_CODES;
+import android.util.Property;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <p>A declarative description of a {@link Technique}: a list of property tracks, each with keyframe values and an
+ * optional {@link Skill}. Keyframe values are constants or expressions over the size and position of the target view,
+ * such as a quarter of its height or the distance to the edge of its parent. One shared animator turns a spec into
+ * {@link ObjectAnimator}s, so a technique does not need its own {@link Technique.SimpleAnimator} subclass.</p>
+ *
+ * <p>Apps can build their own specs and play them like any {@link Technique}, or register them by name to look them up
+ * later, for example from a config file.</p>
+ *
+ * <p>Example usage:</p>
+ *
+ * <pre>
+ * TechniqueSpec slideInQuarter = TechniqueSpec.builder()
+ *     .track(View.ALPHA, 0, 1)
+ *     .track(View.TRANSLATION_X, dimension(Dimension.WIDTH).negate().dividedBy(4), constant(0))
+ *     .build();
+ * TechniqueSpec.register("slide_in_quarter", slideInQuarter);
+ *
+ * TechniqueSpec.get("slide_in_quarter").getComposer().duration(500).playOn(view);
+ * </pre>
+ *
+ * @see Technique#getSpec()
+ */
+public final class TechniqueSpec {
+
+  /** The skill duration of a track that uses the duration of the animator set when the technique is prepared. */
+  private static final float SET_DURATION = Float.NaN;
+
+  private static final Map<String, TechniqueSpec> REGISTRY = new HashMap<>();
+
+  /** The left edge of the content: the left padding. */
+  public static final Value CONTENT_LEFT = dimension(Dimension.PADDING_LEFT);
+
+  /** The right edge of the content: the width minus the right padding. */
+  public static final Value CONTENT_RIGHT = dimension(Dimension.WIDTH).minus(Dimension.PADDING_RIGHT);
+
+  /** The bottom edge of the content: the height minus the bottom padding. */
+  public static final Value CONTENT_BOTTOM = dimension(Dimension.HEIGHT).minus(Dimension.PADDING_BOTTOM);
+
+  /** The width of the content: the width minus the left and right padding. */
+  public static final Value CONTENT_WIDTH =
+      dimension(Dimension.WIDTH).minus(Dimension.PADDING_LEFT).minus(Dimension.PADDING_RIGHT);
+
+  /** The horizontal center of the content, rounded towards the left padding. */
+  public static final Value CONTENT_CENTER_X = CONTENT_WIDTH.dividedBy(2).plus(Dimension.PADDING_LEFT);
+
+  /** The distance from the top of the parent to the bottom of the view. */
+  public static final Value DISTANCE_TO_TOP = dimension(Dimension.TOP).plus(Dimension.HEIGHT);
+
+  /** The distance from the left of the view to the right of its parent. */
+  public static final Value DISTANCE_TO_PARENT_RIGHT = dimension(Dimension.PARENT_WIDTH).minus(Dimension.LEFT);
+
+  /** The distance from the top of the view to the bottom of its parent. */
+  public static final Value DISTANCE_TO_PARENT_BOTTOM = dimension(Dimension.PARENT_HEIGHT).minus(Dimension.TOP);
+
+  /**
+   * The x location of the pivot point, which {@link View} has no {@link Property} for. It is set directly, without
+   * looking up a setter by name.
+   */
+  public static final Property<View, Float> PIVOT_X = ViewProperties.PIVOT_X;
+
+  /**
+   * The y location of the pivot point, which {@link View} has no {@link Property} for. It is set directly, without
+   * looking up a setter by name.
+   */
+  public static final Property<View, Float> PIVOT_Y = ViewProperties.PIVOT_Y;
+
+  /**
+   * @return a new {@link Builder}.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Register a spec under a name, replacing any spec that was registered under the same name.
+   *
+   * @param name
+   *     the name
+   * @param spec
+   *     the spec
+   */
+  public static void register(String name, TechniqueSpec spec) {
+    if (name == null || spec == null) {
+      throw new IllegalArgumentException("name and spec must not be null");
+    }
+    synchronized (REGISTRY) {
+      REGISTRY.put(name, spec);
+    }
+  }
+
+  /**
+   * Remove a registered spec.
+   *
+   * @param name
+   *     the name the spec was registered under
+   * @return the removed spec, or {@code null} if none was registered
+   */
+  public static TechniqueSpec unregister(String name) {
+    synchronized (REGISTRY) {
+      return REGISTRY.remove(name);
+    }
+  }
+
+  /**
+   * Look up a spec by name. Registered specs are checked first, then the names of the built-in {@link Technique}s.
+   *
+   * @param name
+   *     the name, for example "FADE_IN" or a name passed to {@link #register(String, TechniqueSpec)}
+   * @return the spec, or {@code null} if there is no spec with that name
+   */
+  public static TechniqueSpec get(String name) {
+    synchronized (REGISTRY) {
+      TechniqueSpec spec = REGISTRY.get(name);
+      if (spec != null) {
+        return spec;
+      }
+    }
+    for (Technique technique : Technique.values()) {
+      if (technique.name().equals(name)) {
+        return technique.getSpec();
+      }
+    }
+    return null;
+  }
+
+  /**
+   * A constant keyframe value.
+   *
+   * @param value
+   *     the value
+   * @return the {@link Value}
+   */
+  public static Value constant(float value) {
+    return new Value(value);
+  }
+
+  /**
+   * A keyframe value that is a dimension of the target view. Combine it with other dimensions using the methods of
+   * {@link Value}.
+   *
+   * @param dimension
+   *     the dimension
+   * @return the {@link Value}
+   */
+  public static Value dimension(Dimension dimension) {
+    return Value.of(dimension);
+  }
+
+  /**
+   * A keyframe value that is a percentage of a dimension of the target view.
+   *
+   * @param dimension
+   *     the dimension
+   * @param percent
+   *     the percentage, for example -25 for a quarter of the dimension in the negative direction
+   * @return the {@link Value}
+   */
+  public static Value percentOf(Dimension dimension, float percent) {
+    return dimension(dimension).dividedBy(100.0).times(percent);
+  }
+
+  private final List<Track> tracks;
+  private final long duration;
+
+  private TechniqueSpec(List<Track> tracks, long duration) {
+    this.tracks = Collections.unmodifiableList(tracks);
+    this.duration = duration;
+  }
+
+  /**
+   * @return the property tracks of this spec, in the order they are played.
+   */
+  public List<Track> getTracks() {
+    return tracks;
+  }
+
+  /**
+   * @return the duration this spec always plays with, or -1 if it uses the duration set on the {@link
+   * Technique.Composer}.
+   */
+  public long getDuration() {
+    return duration;
+  }
+
+  /**
+   * @return a new animator that plays this spec.
+   */
+  public Technique.SimpleAnimator getAnimator() {
+    return new SpecAnimator(this);
+  }
+
+  /**
+   * Compose a new animation from this spec.
+   *
+   * @return A {@link Technique.Composer} object used to set the duration, delay, and other parameters for the
+   * animation.
+   */
+  public Technique.Composer getComposer() {
+    return AnimatorPool.obtain(this).composer();
+  }
+
+  /**
+   * Plays this spec on the target view. The default duration is 1 second.
+   *
+   * @param target
+   *     the view to play the animation on.
+   * @return the animation's {@link Technique.Controller}.
+   */
+  public Technique.Controller playOn(View target) {
+    return getComposer().playOn(target);
+  }
+
+  /**
+   * A size or position of the target view, read when the technique is prepared.
+   */
+  public enum Dimension {
+    WIDTH,
+    HEIGHT,
+    MEASURED_WIDTH,
+    MEASURED_HEIGHT,
+    LEFT,
+    TOP,
+    RIGHT,
+    BOTTOM,
+    PADDING_LEFT,
+    PADDING_TOP,
+    PADDING_RIGHT,
+    PADDING_BOTTOM,
+    /** The width of the parent view. The parent must be a {@link ViewGroup}. */
+    PARENT_WIDTH,
+    /** The height of the parent view. The parent must be a {@link ViewGroup}. */
+    PARENT_HEIGHT,
+    /** The left position of the parent view. The parent must be a {@link ViewGroup}. */
+    PARENT_LEFT;
+
+    /**
+     * @param view
+     *     the target view
+     * @return the value of this dimension for the view
+     */
+    public int of(View view) {
+      switch (this) {
+        case WIDTH:
+          return view.getWidth();
+        case HEIGHT:
+          return view.getHeight();
+        case MEASURED_WIDTH:
+          return view.getMeasuredWidth();
+        case MEASURED_HEIGHT:
+          return view.getMeasuredHeight();
+        case LEFT:
+          return view.getLeft();
+        case TOP:
+          return view.getTop();
+        case RIGHT:
+          return view.getRight();
+        case BOTTOM:
+          return view.getBottom();
+        case PADDING_LEFT:
+          return view.getPaddingLeft();
+        case PADDING_TOP:
+          return view.getPaddingTop();
+        case PADDING_RIGHT:
+          return view.getPaddingRight();
+        case PADDING_BOTTOM:
+          return view.getPaddingBottom();
+        case PARENT_WIDTH:
+          return ((ViewGroup) view.getParent()).getWidth();
+        case PARENT_HEIGHT:
+          return ((ViewGroup) view.getParent()).getHeight();
+        case PARENT_LEFT:
+          return ((ViewGroup) view.getParent()).getLeft();
+        default:
+          throw new IllegalStateException("Unknown dimension: " + this);
+      }
+    }
+
+  }
+
+  /**
+   * <p>A keyframe value: either a constant, or an integer sum of {@link Dimension}s that is optionally divided and
+   * scaled. Integer division truncates the same way as Java's {@code int} division, so {@code
+   * dimension(HEIGHT).dividedBy(4)} is exactly {@code view.getHeight() / 4}.</p>
+   *
+   * <p>Values are immutable; every method returns a new value.</p>
+   */
+  public static final class Value {
+
+    private static final int DIMENSIONS = Dimension.values().length;
+
+    private final float constant;
+    /** Coefficients of the dimensions summed before the division, or null for a constant. */
+    private final int[] sum;
+    /** Coefficients of the dimensions added after an integer division, or null. */
+    private final int[] offset;
+    private final int intDivisor;
+    private final double realDivisor;
+    private final float scale;
+
+    Value(float constant) {
+      this(constant, null, null, 1, 0, 1);
+    }
+
+    /**
+     * @return a value that is one dimension of the target view.
+     */
+    static Value of(Dimension dimension) {
+      int[] sum = new int[DIMENSIONS];
+      sum[dimension.ordinal()] = 1;
+      return new Value(0, sum, null, 1, 0, 1);
+    }
+
+    private Value(float constant, int[] sum, int[] offset, int intDivisor, double realDivisor, float scale) {
+      this.constant = constant;
+      this.sum = sum;
+      this.offset = offset;
+      this.intDivisor = intDivisor;
+      this.realDivisor = realDivisor;
+      this.scale = scale;
+    }
+
+    /**
+     * Add a dimension. Before {@link #dividedBy(int)} it is added to the dividend; after, it is added to the quotient.
+     * A constant can not be added to, start from {@link TechniqueSpec#dimension(Dimension)} instead.
+     *
+     * @param dimension
+     *     the dimension to add
+     * @return the new value
+     */
+    public Value plus(Dimension dimension) {
+      return add(dimension, 1);
+    }
+
+    /**
+     * Subtract a dimension. Before {@link #dividedBy(int)} it is subtracted from the dividend; after, it is subtracted
+     * from the quotient. A constant can not be subtracted from, start from {@link TechniqueSpec#dimension(Dimension)}
+     * instead.
+     *
+     * @param dimension
+     *     the dimension to subtract
+     * @return the new value
+     */
+    public Value minus(Dimension dimension) {
+      return add(dimension, -1);
+    }
+
+    private Value add(Dimension dimension, int coefficient) {
+      checkDimensional("Dimensions can only be added to a dimension, not to a constant");
+      if (realDivisor != 0 || scale != 1) {
+        throw new IllegalStateException("Dimensions must be added before dividedBy(double) or times(float)");
+      }
+      boolean divided = intDivisor != 1;
+      int[] sum = this.sum == null ? new int[DIMENSIONS] : this.sum.clone();
+      int[] offset = this.offset == null ? null : this.offset.clone();
+      if (divided) {
+        if (offset == null) {
+          offset = new int[DIMENSIONS];
+        }
+        offset[dimension.ordinal()] += coefficient;
+      } else {
+        sum[dimension.ordinal()] += coefficient;
+      }
+      return new Value(0, sum, offset, intDivisor, realDivisor, scale);
+    }
+
+    /**
+     * Negate the value. For a sum of dimensions this negates the integer sum, so {@code negate().dividedBy(4)} is
+     * {@code -view.getHeight() / 4}.
+     *
+     * @return the new value
+     */
+    public Value negate() {
+      if (sum == null) {
+        return new Value(-constant);
+      }
+      // Integer division truncates towards zero, so negating the coefficients negates the whole value.
+      return new Value(0, negate(sum), offset == null ? null : negate(offset), intDivisor, realDivisor, scale);
+    }
+
+    private static int[] negate(int[] coefficients) {
+      int[] negated = new int[coefficients.length];
+      for (int i = 0; i < coefficients.length; i++) {
+        negated[i] = -coefficients[i];
+      }
+      return negated;
+    }
+
+    /**
+     * Divide the sum of dimensions with integer division.
+     *
+     * @param divisor
+     *     the divisor
+     * @return the new value
+     */
+    public Value dividedBy(int divisor) {
+      checkDimensional("Only dimensions can be divided");
+      if (divisor == 0 || intDivisor != 1 || realDivisor != 0) {
+        throw new IllegalStateException("A value can only be divided once, by a non-zero divisor");
+      }
+      return new Value(0, sum, offset, divisor, 0, scale);
+    }
+
+    /**
+     * Divide the sum of dimensions with floating point division.
+     *
+     * @param divisor
+     *     the divisor
+     * @return the new value
+     */
+    public Value dividedBy(double divisor) {
+      checkDimensional("Only dimensions can be divided");
+      if (divisor == 0 || intDivisor != 1 || realDivisor != 0) {
+        throw new IllegalStateException("A value can only be divided once, by a non-zero divisor");
+      }
+      return new Value(0, sum, offset, 1, divisor, scale);
+    }
+
+    /**
+     * Multiply the value by a factor.
+     *
+     * @param factor
+     *     the factor
+     * @return the new value
+     */
+    public Value times(float factor) {
+      if (sum == null) {
+        return new Value(constant * factor);
+      }
+      return new Value(0, sum, offset, intDivisor, realDivisor, scale * factor);
+    }
+
+    private void checkDimensional(String message) {
+      if (sum == null) {
+        throw new IllegalStateException(message);
+      }
+    }
+
+    /**
+     * @return {@code true} if the value does not depend on the target view.
+     */
+    public boolean isConstant() {
+      return sum == null;
+    }
+
+    /**
+     * @param view
+     *     the target view
+     * @return the value for the view
+     */
+    public float evaluate(View view) {
+      if (sum == null) {
+        return constant;
+      }
+      int total = combine(sum, view);
+      float base;
+      if (realDivisor != 0) {
+        base = (float) (total / realDivisor);
+      } else {
+        base = total / intDivisor + (offset == null ? 0 : combine(offset, view));
+      }
+      return scale * base;
+    }
+
+    private static int combine(int[] coefficients, View view) {
+      int total = 0;
+      for (int i = 0; i < coefficients.length; i++) {
+        if (coefficients[i] != 0) {
+          total += coefficients[i] * Dimension.values()[i].of(view);
+        }
+      }
+      return total;
+    }
+
+  }
+
+  /**
+   * One animated property of a spec, with its keyframe values and an optional {@link Skill}.
+   */
+  public static final class Track {
+
+    final Property<View, Float> property;
+    final Value[] values;
+    final Skill skill;
+    final float skillDuration;
+
+    Track(Property<View, Float> property, Value[] values, Skill skill, float skillDuration) {
+      if (values.length == 0) {
+        throw new IllegalArgumentException("A track needs at least one value");
+      }
+      this.property = property;
+      this.values = values;
+      this.skill = skill;
+      this.skillDuration = skillDuration;
+    }
+
+    /**
+     * @return the animated property.
+     */
+    public Property<View, Float> getProperty() {
+      return property;
+    }
+
+    /**
+     * @return the keyframe values.
+     */
+    public List<Value> getValues() {
+      return Collections.unmodifiableList(Arrays.asList(values));
+    }
+
+    /**
+     * @return the {@link Skill} applied to this track, or {@code null} to use the animator's interpolator.
+     */
+    public Skill getSkill() {
+      return skill;
+    }
+
+    /**
+     * @return {@code true} if every keyframe value is a constant.
+     */
+    public boolean isConstant() {
+      for (Value value : values) {
+        if (!value.isConstant()) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    boolean usesSetDuration() {
+      return Float.isNaN(skillDuration);
+    }
+
+    /**
+     * @param view
+     *     the target view
+     * @return the keyframe values for the view
+     */
+    public float[] evaluate(View view) {
+      float[] result = new float[values.length];
+      evaluate(view, result);
+      return result;
+    }
+
+    void evaluate(View view, float[] out) {
+      for (int i = 0; i < values.length; i++) {
+        out[i] = values[i].evaluate(view);
+      }
+    }
+
+  }
+
+  /**
+   * Builds a {@link TechniqueSpec}.
+   */
+  public static final class Builder {
+
+    private final List<Track> tracks = new ArrayList<>();
+    private long duration = -1;
+
+    Builder() {
+    }
+
+    /**
+     * Add a track with constant keyframe values.
+     *
+     * @param property
+     *     the animated property
+     * @param values
+     *     the keyframe values
+     * @return this {@link Builder} object for chaining method calls.
+     */
+    public Builder track(Property<View, Float> property, float... values) {
+      return track(null, SET_DURATION, property, constants(values));
+    }
+
+    /**
+     * Add a track.
+     *
+     * @param property
+     *     the animated property
+     * @param values
+     *     the keyframe values
+     * @return this {@link Builder} object for chaining method calls.
+     */
+    public Builder track(Property<View, Float> property, Value... values) {
+      return track(null, SET_DURATION, property, values);
+    }
+
+    /**
+     * Add a track with constant keyframe values that is eased by a {@link Skill} over the technique's duration.
+     *
+     * @param skill
+     *     the curve of this track
+     * @param property
+     *     the animated property
+     * @param values
+     *     the keyframe values
+     * @return this {@link Builder} object for chaining method calls.
+     */
+    public Builder track(Skill skill, Property<View, Float> property, float... values) {
+      return track(skill, SET_DURATION, property, constants(values));
+    }
+
+    /**
+     * Add a track that is eased by a {@link Skill} over the technique's duration.
+     *
+     * @param skill
+     *     the curve of this track
+     * @param property
+     *     the animated property
+     * @param values
+     *     the keyframe values
+     * @return this {@link Builder} object for chaining method calls.
+     */
+    public Builder track(Skill skill, Property<View, Float> property, Value... values) {
+      return track(skill, SET_DURATION, property, values);
+    }
+
+    /**
+     * Add a track with constant keyframe values that is eased by a {@link Skill} with a fixed duration.
+     *
+     * @param skill
+     *     the curve of this track
+     * @param skillDuration
+     *     the duration passed to the {@link Skill}
+     * @param property
+     *     the animated property
+     * @param values
+     *     the keyframe values
+     * @return this {@link Builder} object for chaining method calls.
+     */
+    public Builder track(Skill skill, float skillDuration, Property<View, Float> property, float... values) {
+      return track(skill, skillDuration, property, constants(values));
+    }
+
+    /**
+     * Add a track that is eased by a {@link Skill} with a fixed duration.
+     *
+     * @param skill
+     *     the curve of this track, or {@code null}
+     * @param skillDuration
+     *     the duration passed to the {@link Skill}
+     * @param property
+     *     the animated property
+     * @param values
+     *     the keyframe values
+     * @return this {@link Builder} object for chaining method calls.
+     */
+    public Builder track(Skill skill, float skillDuration, Property<View, Float> property, Value... values) {
+      tracks.add(new Track(property, values.clone(), skill, skillDuration));
+      return this;
+    }
+
+    /**
+     * Add a track that holds one value for a number of keyframes, for example to keep the {@link #PIVOT_X pivot} in
+     * place while other tracks animate.
+     *
+     * @param property
+     *     the animated property
+     * @param value
+     *     the value
+     * @param keyframes
+     *     the number of keyframes
+     * @return this {@link Builder} object for chaining method calls.
+     */
+    public Builder hold(Property<View, Float> property, Value value, int keyframes) {
+      Value[] values = new Value[keyframes];
+      Arrays.fill(values, value);
+      return track(property, values);
+    }
+
+    /**
+     * Play the spec with a fixed duration, ignoring the duration set on the {@link Technique.Composer}.
+     *
+     * @param duration
+     *     the duration in milliseconds
+     * @return this {@link Builder} object for chaining method calls.
+     */
+    public Builder duration(long duration) {
+      this.duration = duration;
+      return this;
+    }
+
+    /**
+     * @return a new {@link TechniqueSpec}.
+     */
+    public TechniqueSpec build() {
+      if (tracks.isEmpty()) {
+        throw new IllegalStateException("A spec needs at least one track");
+      }
+      return new TechniqueSpec(new ArrayList<>(tracks), duration);
+    }
+
+    private static Value[] constants(float[] values) {
+      Value[] result = new Value[values.length];
+      for (int i = 0; i < values.length; i++) {
+        result[i] = new Value(values[i]);
+      }
+      return result;
+    }
+
+  }
+
+  /**
+   * The animator shared by every spec. Its {@link ObjectAnimator}s are created on first use and updated in place when
+   * the animator is reused from the {@link AnimatorPool}.
+   */
+  static final class SpecAnimator extends Technique.SimpleAnimator {
+
+    private final TechniqueSpec spec;
+    private ObjectAnimator[] animators;
+    private float[][] values;
+    private Animator.AnimatorListener recycler;
+    private ViewPropertyBackend viewBackend;
+    private ValueAnimatorBackend valueBackend;
+    private boolean onView;
+    private boolean onValue;
+
+    SpecAnimator(TechniqueSpec spec) {
+      this.spec = spec;
+    }
+
+    @Override boolean startOnView() {
+      onView = false;
+      onValue = false;
+      if (getBackend() == Technique.Backend.VALUE_ANIMATOR && !hasPath() && ValueAnimatorBackend.supports(spec)) {
+        if (valueBackend == null) {
+          valueBackend = new ValueAnimatorBackend(this, spec);
+        }
+        onValue = true;
+        long duration = spec.duration >= 0 ? spec.duration : getDuration();
+        valueBackend.start(getTarget(), duration, getAnimatorSet().getStartDelay(), getInterpolator());
+        return true;
+      }
+      if (getBackend() != Technique.Backend.VIEW_PROPERTY || hasPath() || !ViewPropertyBackend.supports(spec)) {
+        return false;
+      }
+      if (viewBackend == null) {
+        viewBackend = new ViewPropertyBackend(this, spec);
+      }
+      onView = true;
+      long duration = spec.duration >= 0 ? spec.duration : getDuration();
+      viewBackend.start(getTarget(), duration, getAnimatorSet().getStartDelay(), getInterpolator());
+      return true;
+    }
+
+    @Override boolean benefitsFromLayer(View target) {
+      for (Track track : spec.tracks) {
+        if (track.property == View.ROTATION_X || track.property == View.ROTATION_Y) {
+          return true;
+        }
+        if (track.property == View.ALPHA
+            && (Build.VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN || target.hasOverlappingRendering())) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override boolean isStarted() {
+      if (onValue) {
+        return valueBackend.isStarted();
+      }
+      return onView ? viewBackend.isStarted() : super.isStarted();
+    }
+
+    @Override boolean isRunning() {
+      if (onValue) {
+        return valueBackend.isRunning();
+      }
+      return onView ? viewBackend.isRunning() : super.isRunning();
+    }
+
+    @Override void cancel() {
+      if (onValue) {
+        valueBackend.cancel();
+      } else if (onView) {
+        viewBackend.cancel();
+      } else {
+        super.cancel();
+      }
+    }
+
+    @Override boolean recycle() {
+      if (viewBackend != null) {
+        viewBackend.clear();
+      }
+      if (valueBackend != null) {
+        valueBackend.clear();
+      }
+      onView = false;
+      onValue = false;
+      return super.recycle();
+    }
+
+    @Override protected void prepare(View target) {
+      boolean inflated = animators != null;
+      if (!inflated) {
+        animators = new ObjectAnimator[spec.tracks.size()];
+        values = new float[animators.length][];
+      }
+      for (int i = 0; i < animators.length; i++) {
+        Track track = spec.tracks.get(i);
+        if (inflated) {
+          track.evaluate(target, values[i]);
+          animators[i].setTarget(target);
+          animators[i].setFloatValues(values[i]);
+        } else {
+          values[i] = track.evaluate(target);
+          animators[i] = ObjectAnimator.ofFloat(target, track.property, values[i]);
+        }
+        if (track.skill != null) {
+          float skillDuration = track.usesSetDuration() ? getAnimatorSet().getDuration() : track.skillDuration;
+          track.skill.glideShared(skillDuration, animators[i]);
+        }
+      }
+      if (!inflated) {
+        getAnimatorSet().playTogether(animators);
+      }
+      if (spec.duration >= 0) {
+        setDuration(spec.duration);
+      }
+    }
+
+    /**
+     * Create the animators ahead of time, without a target.
+     */
+    void inflate() {
+      if (animators != null) {
+        return;
+      }
+      animators = new ObjectAnimator[spec.tracks.size()];
+      values = new float[animators.length][];
+      for (int i = 0; i < animators.length; i++) {
+        Track track = spec.tracks.get(i);
+        values[i] = new float[track.values.length];
+        animators[i] = ObjectAnimator.ofFloat(null, track.property, values[i]);
+      }
+      getAnimatorSet().playTogether(animators);
+    }
+
+    void setPooled(boolean pooled) {
+      if (pooled && recycler == null) {
+        recycler = new EmptyAnimatorListener() {
+
+          @Override public void onAnimationEnd(Animator animation) {
+            AnimatorPool.release(SpecAnimator.this);
+          }
+        };
+      }
+      setFinishListener(pooled ? recycler : null);
+    }
+
+    TechniqueSpec getSpec() {
+      return spec;
+    }
+
+  }
+
+}
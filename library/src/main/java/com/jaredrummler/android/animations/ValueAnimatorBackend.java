@@ -0,0 +1,205 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.animation.Animator;
+import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
+import android.view.View;
+import android.view.animation.AccelerateDecelerateInterpolator;
+
+import java.util.List;
+
+/**
+ * <p>Plays a {@link TechniqueSpec} with one {@link ValueAnimator} instead of an {@link android.animation.AnimatorSet}
+ * of {@link android.animation.ObjectAnimator}s. On each frame, a single update pass looks up every track's keyframes in
+ * packed arrays and sets the properties on the view directly, so there is one animation pulse and one listener pass
+ * per frame, however many tracks the spec has.</p>
+ *
+ * <p>The keyframes are evaluated the way an {@link android.animation.ObjectAnimator} evaluates them: evenly spaced,
+ * linear between keyframes unless the track has a {@link Skill}, in which case the same shared {@link
+ * Skill.EasingMethod} is used. The default interpolator is an {@link AccelerateDecelerateInterpolator}, so the view
+ * follows the same values as with the {@link android.animation.AnimatorSet}.</p>
+ *
+ * <p>A spec can be played this way if every track has at least two keyframes.</p>
+ */
+final class ValueAnimatorBackend extends EmptyAnimatorListener implements ValueAnimator.AnimatorUpdateListener {
+
+  private static final TimeInterpolator DEFAULT_INTERPOLATOR = new AccelerateDecelerateInterpolator();
+
+  /**
+   * Check if a spec can be played with a single {@link ValueAnimator}.
+   *
+   * @param spec
+   *     the spec
+   * @return {@code true} if every track has at least two keyframes
+   */
+  static boolean supports(TechniqueSpec spec) {
+    for (TechniqueSpec.Track track : spec.getTracks()) {
+      // An ObjectAnimator with one keyframe starts from the current value, which is not known up front.
+      if (track.values.length < 2) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private final Technique.SimpleAnimator owner;
+  private final TechniqueSpec spec;
+  private final ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+  private final int[] properties;
+  private final float[][] fractions;
+  private final float[][] values;
+  private final Skill.EasingMethod[] methods;
+  private final BackendSupport support;
+
+  private View target;
+
+  ValueAnimatorBackend(Technique.SimpleAnimator owner, TechniqueSpec spec) {
+    this.owner = owner;
+    this.spec = spec;
+    support = new BackendSupport(owner);
+    List<TechniqueSpec.Track> tracks = spec.getTracks();
+    properties = new int[tracks.size()];
+    fractions = new float[tracks.size()][];
+    values = new float[tracks.size()][];
+    methods = new Skill.EasingMethod[tracks.size()];
+    for (int i = 0; i < properties.length; i++) {
+      TechniqueSpec.Track track = tracks.get(i);
+      int count = track.values.length;
+      properties[i] = BackendSupport.propertyId(track.property);
+      values[i] = new float[count];
+      fractions[i] = new float[count];
+      for (int k = 0; k < count; k++) {
+        // The same fractions as KeyframeSet.ofFloat(), so the keyframes line up exactly.
+        fractions[i][k] = (float) k / (count - 1);
+      }
+    }
+    animator.addUpdateListener(this);
+    animator.addListener(this);
+  }
+
+  /**
+   * Play the spec on a view.
+   *
+   * @param target
+   *     the view
+   * @param duration
+   *     the duration in milliseconds
+   * @param delay
+   *     the start delay in milliseconds
+   * @param interpolator
+   *     the interpolator, or {@code null} for the default interpolator of an {@link android.animation.ObjectAnimator}
+   */
+  void start(View target, long duration, long delay, TimeInterpolator interpolator) {
+    this.target = target;
+    List<TechniqueSpec.Track> tracks = spec.getTracks();
+    for (int i = 0; i < values.length; i++) {
+      TechniqueSpec.Track track = tracks.get(i);
+      track.evaluate(target, values[i]);
+      if (track.skill != null) {
+        float skillDuration = track.usesSetDuration() ? owner.getAnimatorSet().getDuration() : track.skillDuration;
+        methods[i] = track.skill.getSharedMethod(skillDuration);
+      } else {
+        methods[i] = null;
+      }
+    }
+    animator.setDuration(duration);
+    animator.setStartDelay(delay);
+    animator.setInterpolator(interpolator != null ? interpolator : DEFAULT_INTERPOLATOR);
+    animator.start();
+  }
+
+  @Override public void onAnimationUpdate(ValueAnimator animation) {
+    float fraction = animation.getAnimatedFraction();
+    for (int i = 0; i < properties.length; i++) {
+      set(i, valueAt(fractions[i], values[i], methods[i], fraction));
+    }
+  }
+
+  /**
+   * Find the value of a track at an interpolated fraction, like FloatKeyframeSet does. Fractions outside of 0 to 1,
+   * from an interpolator that overshoots, are extrapolated from the first or last pair of keyframes.
+   */
+  private static float valueAt(float[] fractions, float[] values, Skill.EasingMethod method, float fraction) {
+    int last = values.length - 1;
+    int next;
+    if (last == 1 || fraction <= 0f) {
+      next = 1;
+    } else if (fraction >= 1f) {
+      next = last;
+    } else {
+      next = 1;
+      while (next < last && fraction >= fractions[next]) {
+        next++;
+      }
+    }
+    float from = fractions[next - 1];
+    float interval = last == 1 ? fraction : (fraction - from) / (fractions[next] - from);
+    float start = values[next - 1];
+    float end = values[next];
+    if (method != null) {
+      return method.evaluateFloat(interval, start, end);
+    }
+    return start + interval * (end - start);
+  }
+
+  private void set(int track, float value) {
+    if (!BackendSupport.set(target, properties[track], value)) {
+      spec.getTracks().get(track).property.set(target, value);
+    }
+  }
+
+  /**
+   * Stop the animation where it is and notify the listeners.
+   */
+  void cancel() {
+    animator.cancel();
+  }
+
+  boolean isStarted() {
+    return animator.isStarted();
+  }
+
+  boolean isRunning() {
+    return animator.isRunning();
+  }
+
+  /**
+   * Let go of the target view.
+   */
+  void clear() {
+    target = null;
+  }
+
+  @Override public void onAnimationStart(Animator animation) {
+    support.dispatchStart();
+  }
+
+  @Override public void onAnimationCancel(Animator animation) {
+    support.dispatchCancel();
+  }
+
+  @Override public void onAnimationEnd(Animator animation) {
+    support.dispatchEnd();
+  }
+
+  @Override public void onAnimationRepeat(Animator animation) {
+    support.dispatchRepeat();
+  }
+
+}
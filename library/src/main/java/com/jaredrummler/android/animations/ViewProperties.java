@@ -0,0 +1,54 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.util.Property;
+import android.view.View;
+
+/**
+ * {@link Property} constants for {@link View} properties that the framework does not provide, so animators can set
+ * them directly instead of looking up a setter by name with reflection.
+ */
+final class ViewProperties {
+
+  static final Property<View, Float> PIVOT_X = new Property<View, Float>(Float.class, "pivotX") {
+
+    @Override public Float get(View view) {
+      return view.getPivotX();
+    }
+
+    @Override public void set(View view, Float value) {
+      view.setPivotX(value);
+    }
+  };
+
+  static final Property<View, Float> PIVOT_Y = new Property<View, Float>(Float.class, "pivotY") {
+
+    @Override public Float get(View view) {
+      return view.getPivotY();
+    }
+
+    @Override public void set(View view, Float value) {
+      view.setPivotY(value);
+    }
+  };
+
+  private ViewProperties() {
+    throw new AssertionError("no instances");
+  }
+
+}
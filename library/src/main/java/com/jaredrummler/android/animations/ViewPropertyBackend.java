@@ -0,0 +1,299 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.animation.Animator;
+import android.animation.TimeInterpolator;
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.os.Build.VERSION_CODES;
+import android.util.Property;
+import android.view.View;
+import android.view.ViewPropertyAnimator;
+import android.view.animation.AccelerateDecelerateInterpolator;
+
+import java.util.List;
+
+/**
+ * <p>Plays a {@link TechniqueSpec} with {@link View#animate()} instead of an {@link android.animation.AnimatorSet}. One
+ * {@link ViewPropertyAnimator} run sets all properties of a frame in one pass, instead of one {@link
+ * android.animation.ObjectAnimator} per property. Only specs with two keyframes per track are played this way: a
+ * {@link ViewPropertyAnimator} animates from one value to another, so the run uses the technique's own interpolator
+ * and duration, without start or end actions, and the view follows the same values as with the {@link
+ * android.animation.ObjectAnimator}s.</p>
+ *
+ * <p>The view's {@link ViewPropertyAnimator} is shared with the app. While the technique plays, its listener is
+ * replaced, and cancelling the technique cancels every animation of that {@link ViewPropertyAnimator}. If the app or
+ * another technique cancels the run, the technique ends as cancelled. When the technique ends, the listener is
+ * cleared and the duration, start delay and interpolator are set back to the values they had before. What can not be
+ * restored: a listener the app had set before, the interpolator below API 18, and the difference between a default
+ * value and the same value set explicitly.</p>
+ *
+ * <p>A spec can be played this way if every track animates alpha, translation, scale or rotation, no track has its
+ * own {@link Skill} and every track has two keyframes.</p>
+ */
+@TargetApi(VERSION_CODES.JELLY_BEAN)
+final class ViewPropertyBackend {
+
+  /** The interpolator of a {@link ViewPropertyAnimator} that has none set. */
+  private static final TimeInterpolator DEFAULT_INTERPOLATOR = new AccelerateDecelerateInterpolator();
+
+  /**
+   * Check if a spec can be played with a {@link ViewPropertyAnimator} on this device.
+   *
+   * @param spec
+   *     the spec
+   * @return {@code true} if the spec only uses supported properties and tracks
+   */
+  static boolean supports(TechniqueSpec spec) {
+    if (Build.VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN) {
+      return false;
+    }
+    for (TechniqueSpec.Track track : spec.getTracks()) {
+      if (track.skill != null || track.values.length != 2 || !canAnimate(track.property)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Check if a {@link ViewPropertyAnimator} has a method for a property.
+   */
+  private static boolean canAnimate(Property<View, Float> property) {
+    switch (BackendSupport.propertyId(property)) {
+      case BackendSupport.OTHER:
+      case BackendSupport.PIVOT_X:
+      case BackendSupport.PIVOT_Y:
+        return false;
+      default:
+        return true;
+    }
+  }
+
+  private final TechniqueSpec spec;
+  private final int[] properties;
+  private final float[][] values;
+  private final BackendSupport support;
+
+  private View target;
+  private long duration;
+  private TimeInterpolator interpolator;
+  private long savedDuration;
+  private long savedStartDelay;
+  private TimeInterpolator savedInterpolator;
+  private boolean started;
+  private boolean running;
+  private boolean playing;
+  private boolean awaitingStart;
+  private Animator current;
+
+  private final Runnable play = new Runnable() {
+
+    @Override public void run() {
+      play();
+    }
+  };
+
+  /**
+   * Hears the run start, end or get cancelled, for example because the app called {@link View#animate()} on the same
+   * property. The listener also hears the app's own {@link View#animate()} runs while it is set, so it only reacts to
+   * the animator that started while {@link #play()} started ours.
+   */
+  private final Animator.AnimatorListener listener = new EmptyAnimatorListener() {
+
+    @Override public void onAnimationStart(Animator animation) {
+      if (awaitingStart) {
+        awaitingStart = false;
+        current = animation;
+        running = true;
+        support.dispatchStart();
+      }
+    }
+
+    @Override public void onAnimationCancel(Animator animation) {
+      if (started && animation == current) {
+        finish(true, true);
+      }
+    }
+
+    @Override public void onAnimationEnd(Animator animation) {
+      if (started && animation == current) {
+        finish(false, true);
+      }
+    }
+  };
+
+  ViewPropertyBackend(Technique.SimpleAnimator owner, TechniqueSpec spec) {
+    this.spec = spec;
+    support = new BackendSupport(owner);
+    List<TechniqueSpec.Track> tracks = spec.getTracks();
+    properties = new int[tracks.size()];
+    values = new float[tracks.size()][];
+    for (int i = 0; i < properties.length; i++) {
+      TechniqueSpec.Track track = tracks.get(i);
+      properties[i] = BackendSupport.propertyId(track.property);
+      values[i] = new float[track.values.length];
+    }
+  }
+
+  /**
+   * Play the spec on a view.
+   *
+   * @param target
+   *     the view
+   * @param duration
+   *     the duration in milliseconds
+   * @param delay
+   *     the start delay in milliseconds
+   * @param interpolator
+   *     the interpolator, or {@code null} for the default interpolator of an {@link android.animation.ObjectAnimator}
+   */
+  void start(View target, long duration, long delay, TimeInterpolator interpolator) {
+    this.target = target;
+    this.duration = duration;
+    this.interpolator = interpolator != null ? interpolator : DEFAULT_INTERPOLATOR;
+    for (int i = 0; i < values.length; i++) {
+      spec.getTracks().get(i).evaluate(target, values[i]);
+    }
+    started = true;
+    running = false;
+    playing = false;
+    if (delay > 0) {
+      // Not the ViewPropertyAnimator's start delay, which would call the listener at a different time on each API.
+      target.postOnAnimationDelayed(play, delay);
+    } else {
+      play();
+    }
+  }
+
+  private void play() {
+    // A ViewPropertyAnimator animates from the current values, so jump to the first keyframe.
+    for (int i = 0; i < properties.length; i++) {
+      BackendSupport.set(target, properties[i], values[i][0]);
+    }
+    ViewPropertyAnimator animator = target.animate();
+    savedDuration = animator.getDuration();
+    savedStartDelay = animator.getStartDelay();
+    if (Build.VERSION.SDK_INT >= VERSION_CODES.JELLY_BEAN_MR2) {
+      savedInterpolator = animator.getInterpolator();
+    }
+    animator.setDuration(duration)
+        .setStartDelay(0)
+        .setInterpolator(interpolator)
+        .setListener(listener);
+    for (int i = 0; i < properties.length; i++) {
+      animate(animator, properties[i], values[i][1]);
+    }
+    playing = true;
+    // Without a start delay, the listener hears the start before start() returns.
+    awaitingStart = true;
+    animator.start();
+    awaitingStart = false;
+  }
+
+  private static void animate(ViewPropertyAnimator animator, int property, float value) {
+    switch (property) {
+      case BackendSupport.ALPHA:
+        animator.alpha(value);
+        break;
+      case BackendSupport.TRANSLATION_X:
+        animator.translationX(value);
+        break;
+      case BackendSupport.TRANSLATION_Y:
+        animator.translationY(value);
+        break;
+      case BackendSupport.SCALE_X:
+        animator.scaleX(value);
+        break;
+      case BackendSupport.SCALE_Y:
+        animator.scaleY(value);
+        break;
+      case BackendSupport.ROTATION:
+        animator.rotation(value);
+        break;
+      case BackendSupport.ROTATION_X:
+        animator.rotationX(value);
+        break;
+      case BackendSupport.ROTATION_Y:
+        animator.rotationY(value);
+        break;
+    }
+  }
+
+  /**
+   * Stop the animation where it is and notify the listeners.
+   */
+  void cancel() {
+    if (!started) {
+      return;
+    }
+    if (playing) {
+      // Only touch the view's ViewPropertyAnimator if our run is on it. The listener hears the cancel and finishes the
+      // run, unless the app replaced the listener.
+      target.animate().cancel();
+    }
+    if (started) {
+      finish(true, false);
+    }
+  }
+
+  /**
+   * @param restore
+   *     {@code true} if our listener is still set on the view's {@link ViewPropertyAnimator}, and the state it had
+   *     before the run should be restored. If the app replaced the listener, the app owns that state now.
+   */
+  private void finish(boolean cancelled, boolean restore) {
+    started = false;
+    running = false;
+    awaitingStart = false;
+    current = null;
+    target.removeCallbacks(play);
+    if (playing && restore) {
+      ViewPropertyAnimator animator = target.animate()
+          .setListener(null)
+          .setDuration(savedDuration)
+          .setStartDelay(savedStartDelay);
+      if (Build.VERSION.SDK_INT >= VERSION_CODES.JELLY_BEAN_MR2) {
+        animator.setInterpolator(savedInterpolator != null ? savedInterpolator : DEFAULT_INTERPOLATOR);
+      }
+    }
+    playing = false;
+    savedInterpolator = null;
+    if (cancelled) {
+      support.dispatchCancel();
+    }
+    support.dispatchEnd();
+  }
+
+  boolean isStarted() {
+    return started;
+  }
+
+  boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Let go of the target view.
+   */
+  void clear() {
+    target = null;
+    interpolator = null;
+  }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.animation.Animator;
+import android.animation.AnimatorSet;
+import android.annotation.TargetApi;
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Color;
+import android.os.Build;
+import android.os.Build.VERSION_CODES;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+
+/**
+ * <p>Plays a technique on a bitmap of the target view instead of the view itself. The view is drawn once into a
+ * {@link Bitmap}, a proxy view that only draws that bitmap is added to the parent's {@link
+ * android.view.ViewGroupOverlay} at the same bounds, and the animators are pointed at the proxy. Each frame then draws
+ * one bitmap, no matter how many children the view has.</p>
+ *
+ * <p>The target is made {@link View#INVISIBLE} when the animation starts. When it ends or is cancelled, the proxy's
+ * alpha, translation, scale, rotation and pivot are copied to the target, its visibility is restored, the proxy is
+ * removed and the bitmap is kept for the next snapshot of the same size.</p>
+ */
+@TargetApi(VERSION_CODES.JELLY_BEAN_MR2)
+final class ViewSnapshot {
+
+  private static final int MAX_POOLED_BITMAPS = 2;
+
+  private static final ArrayDeque<Bitmap> BITMAPS = new ArrayDeque<>();
+
+  private final Canvas canvas = new Canvas();
+  private final ArrayList<Animator.AnimatorListener> listeners = new ArrayList<>();
+  private View target;
+  private ViewGroup parent;
+  private ProxyView proxy;
+  private boolean hidden;
+
+  private final Animator.AnimatorListener hider = new EmptyAnimatorListener() {
+
+    @Override public void onAnimationStart(Animator animation) {
+      if (target != null && target.getVisibility() == View.VISIBLE) {
+        target.setVisibility(View.INVISIBLE);
+        proxy.setVisibility(View.VISIBLE);
+        hidden = true;
+      }
+    }
+  };
+
+  private final Animator.AnimatorListener restorer = new EmptyAnimatorListener() {
+
+    @Override public void onAnimationEnd(Animator animation) {
+      detach();
+    }
+  };
+
+  /**
+   * Draw the target into a bitmap and put a proxy in its place. The proxy stays invisible until the animation starts.
+   *
+   * @param target
+   *     the view to draw
+   * @return {@code false} if the view can not be drawn into a snapshot, for example because it has no size, no parent
+   * or the device runs a version older than API 18.
+   */
+  boolean attach(View target) {
+    if (Build.VERSION.SDK_INT < VERSION_CODES.JELLY_BEAN_MR2) {
+      return false;
+    }
+    ViewParent parent = target.getParent();
+    int width = target.getWidth();
+    int height = target.getHeight();
+    if (!(parent instanceof ViewGroup) || width <= 0 || height <= 0) {
+      return false;
+    }
+    Bitmap bitmap = obtainBitmap(width, height);
+    canvas.setBitmap(bitmap);
+    int count = canvas.save();
+    canvas.translate(-target.getScrollX(), -target.getScrollY());
+    target.draw(canvas);
+    canvas.restoreToCount(count);
+    canvas.setBitmap(null);
+
+    this.target = target;
+    this.parent = (ViewGroup) parent;
+    proxy = new ProxyView(target.getContext(), bitmap);
+    proxy.setVisibility(View.INVISIBLE);
+    proxy.layout(target.getLeft(), target.getTop(), target.getRight(), target.getBottom());
+    this.parent.getOverlay().add(proxy);
+    return true;
+  }
+
+  /**
+   * Add the listeners that swap the target and the proxy. The target is restored before any other listener sees the
+   * end, and hidden after every other listener saw the start, so callbacks such as {@link
+   * Technique.Composer#showOnStart()} still work on the target.
+   *
+   * @param set
+   *     the set that plays the animation, with its callbacks already added
+   */
+  void listen(AnimatorSet set) {
+    ArrayList<Animator.AnimatorListener> current = set.getListeners();
+    if (current != null) {
+      listeners.addAll(current);
+    }
+    set.removeAllListeners();
+    set.addListener(restorer);
+    for (Animator.AnimatorListener listener : listeners) {
+      // Skip the listeners from an earlier run of the same set.
+      if (listener != restorer && listener != hider) {
+        set.addListener(listener);
+      }
+    }
+    listeners.clear();
+    set.addListener(hider);
+  }
+
+  /**
+   * Point the prepared animators at the proxy. Must be called after the animators were prepared on the target, so
+   * values measured from the target and its parent stay the same.
+   *
+   * @param set
+   *     the prepared set
+   */
+  void retarget(AnimatorSet set) {
+    proxy.setPivotX(target.getPivotX());
+    proxy.setPivotY(target.getPivotY());
+    set.setTarget(proxy);
+  }
+
+  private void detach() {
+    if (target == null) {
+      return;
+    }
+    target.setAlpha(proxy.getAlpha());
+    target.setTranslationX(proxy.getTranslationX());
+    target.setTranslationY(proxy.getTranslationY());
+    target.setScaleX(proxy.getScaleX());
+    target.setScaleY(proxy.getScaleY());
+    target.setRotation(proxy.getRotation());
+    target.setRotationX(proxy.getRotationX());
+    target.setRotationY(proxy.getRotationY());
+    target.setPivotX(proxy.getPivotX());
+    target.setPivotY(proxy.getPivotY());
+    // Leave the visibility alone if something else changed it while the animation played.
+    if (hidden && target.getVisibility() == View.INVISIBLE) {
+      target.setVisibility(View.VISIBLE);
+    }
+    parent.getOverlay().remove(proxy);
+    releaseBitmap(proxy.bitmap);
+    proxy.bitmap = null;
+    proxy = null;
+    parent = null;
+    target = null;
+    hidden = false;
+  }
+
+  private static synchronized Bitmap obtainBitmap(int width, int height) {
+    Iterator<Bitmap> iterator = BITMAPS.iterator();
+    while (iterator.hasNext()) {
+      Bitmap bitmap = iterator.next();
+      if (bitmap.getWidth() == width && bitmap.getHeight() == height) {
+        iterator.remove();
+        bitmap.eraseColor(Color.TRANSPARENT);
+        return bitmap;
+      }
+    }
+    return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+  }
+
+  private static synchronized void releaseBitmap(Bitmap bitmap) {
+    if (BITMAPS.size() == MAX_POOLED_BITMAPS) {
+      BITMAPS.removeLast().recycle();
+    }
+    BITMAPS.push(bitmap);
+  }
+
+  /**
+   * Recycle the bitmaps that are kept for the next snapshots.
+   */
+  static synchronized void clearBitmaps() {
+    for (Bitmap bitmap : BITMAPS) {
+      bitmap.recycle();
+    }
+    BITMAPS.clear();
+  }
+
+  /**
+   * A view that only draws a bitmap.
+   */
+  private static final class ProxyView extends View {
+
+    Bitmap bitmap;
+
+    ProxyView(Context context, Bitmap bitmap) {
+      super(context);
+      this.bitmap = bitmap;
+    }
+
+    @Override protected void onDraw(Canvas canvas) {
+      if (bitmap != null) {
+        canvas.drawBitmap(bitmap, 0, 0, null);
+      }
+    }
+
+    @Override public boolean hasOverlappingRendering() {
+      // A single bitmap never overlaps itself, so alpha can be applied while drawing instead of with a layer.
+      return false;
+    }
+
+  }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class EasingExpressionTest {
+
+  private static float evaluate(String source, float t) {
+    EasingExpression expression = EasingExpression.compile(source);
+    return expression.evaluate(new float[expression.getStackSize()], t, 0, 1, 1);
+  }
+
+  private static String repeat(String text, int count) {
+    StringBuilder builder = new StringBuilder(text.length() * count);
+    for (int i = 0; i < count; i++) {
+      builder.append(text);
+    }
+    return builder.toString();
+  }
+
+  private static void assertTooDeep(String source) {
+    try {
+      EasingExpression.compile(source);
+      fail("Expected an IllegalArgumentException");
+    } catch (IllegalArgumentException e) {
+      assertTrue(e.getMessage(), e.getMessage().startsWith("Expression too deep"));
+    }
+  }
+
+  @Test public void evaluatesExpressions() {
+    assertEquals(.25f, evaluate("c * (t / d) ^ 2 + b", .5f), 0);
+    assertEquals(-4f, evaluate("-2^2", 0), 0);
+    assertEquals(2f, evaluate("t < .5 ? 1 : 2", .75f), 0);
+    assertEquals(.5f, evaluate("clamp(t, 0, .5)", .75f), 0);
+  }
+
+  @Test public void acceptsReasonableNesting() {
+    assertEquals(.5f, evaluate(repeat("(", 60) + "t" + repeat(")", 60), .5f), 0);
+    assertEquals(.5f, evaluate(repeat("--", 30) + "t", .5f), 0);
+    assertEquals(50f, evaluate("t" + repeat("+t", 99), .5f), 0);
+  }
+
+  @Test public void rejectsDeepParentheses() {
+    assertTooDeep(repeat("(", 100000) + "t" + repeat(")", 100000));
+  }
+
+  @Test public void rejectsDeepUnaryOperators() {
+    assertTooDeep(repeat("-", 100000) + "t");
+    assertTooDeep(repeat("+", 100000) + "t");
+    assertTooDeep(repeat("!", 100000) + "t");
+  }
+
+  @Test public void rejectsDeepFunctionCalls() {
+    assertTooDeep(repeat("sin(", 100000) + "t" + repeat(")", 100000));
+  }
+
+  @Test public void rejectsLongOperatorChains() {
+    // Not nested in the source, but each operator adds a level to the syntax tree.
+    assertTooDeep("t" + repeat("+t", 100000));
+    assertTooDeep("t" + repeat("^t", 100000));
+  }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class EasingLookupTableTest {
+
+  @Test public void tablesAreCached() {
+    assertSame(Skill.QUAD_EASE_IN.toLookupTable(64), Skill.QUAD_EASE_IN.toLookupTable(64));
+  }
+
+  @Test public void endpointsAreExact() {
+    for (Skill skill : Skill.values()) {
+      EasingLookupTable table = skill.toLookupTable(32);
+      assertEquals(skill.name(), 0f, table.ease(0), 0);
+      assertEquals(skill.name(), 1f, table.ease(1), 0);
+    }
+  }
+
+  @Test public void staysWithinMaxError() {
+    for (Skill skill : Skill.values()) {
+      EasingLookupTable table = skill.toLookupTable(256);
+      float bound = table.getMaxError();
+      for (int i = 0; i <= 100000; i++) {
+        float t = i / 100000f;
+        float error = Math.abs(table.ease(t) - skill.ease(t));
+        assertTrue(skill + ": error " + error + " at " + t + " exceeds " + bound, error <= bound);
+      }
+    }
+  }
+
+  @Test public void extrapolatesOutsideOfTheCurve() {
+    // QUAD_EASE_IN sampled at 0, 0.5 and 1 is 0, 0.25 and 1.
+    EasingLookupTable table = Skill.QUAD_EASE_IN.toLookupTable(3);
+    assertEquals(-.25f, table.ease(-.5f), 1e-6f);
+    assertEquals(1.75f, table.ease(1.5f), 1e-6f);
+  }
+
+  @Test public void extrapolationContinuesTheEdgeSegments() {
+    EasingLookupTable table = Skill.BACK_EASE_OUT.toLookupTable(128);
+    float step = 1f / 127;
+    float lastSlope = (table.ease(1) - table.ease(1 - step)) / step;
+    assertEquals(table.ease(1) + lastSlope * .1f, table.ease(1.1f), 1e-4f);
+    float firstSlope = (table.ease(step) - table.ease(0)) / step;
+    assertEquals(table.ease(0) - firstSlope * .1f, table.ease(-.1f), 1e-4f);
+  }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import android.view.animation.Interpolator;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks every float evaluation path of {@link Skill} against the double precision {@link ReferenceCurves}.
+ */
+public class ReferenceCurvesTest {
+
+  private static final int INTERPOLATOR_SAMPLES = 100001;
+  private static final int METHOD_SAMPLES = 10001;
+
+  /**
+   * The largest error float evaluation may have on a curve. The CIRC curves take the square root of {@code 1 - t * t},
+   * which loses digits close to the edges, so they get more room than the rest.
+   */
+  private static double budget(Skill skill) {
+    switch (skill) {
+      case CIRC_EASE_IN:
+      case CIRC_EASE_IN_OUT:
+      case CIRC_EASE_OUT:
+        return 1e-5;
+      default:
+        return 2e-6;
+    }
+  }
+
+  private static void assertWithin(ReferenceCurves.ErrorReport report, double budget) {
+    assertTrue(report.toString(), report.getMaxError() <= budget);
+    assertTrue(report.toString(), report.isEndpointExact());
+  }
+
+  @Test public void referenceEndpointsMatch() {
+    for (Skill skill : Skill.values()) {
+      // Only double rounding, such as 2.70158 - 1.70158 for BACK_EASE_IN.
+      assertEquals(skill.name(), 0.0, ReferenceCurves.ease(skill, 0), 1e-12);
+      assertEquals(skill.name(), 1.0, ReferenceCurves.ease(skill, 1), 1e-12);
+    }
+  }
+
+  @Test public void easeMatchesReference() {
+    for (final Skill skill : Skill.values()) {
+      Interpolator ease = new Interpolator() {
+
+        @Override public float getInterpolation(float input) {
+          return skill.ease(input);
+        }
+      };
+      assertWithin(ReferenceCurves.measure(skill, ease, INTERPOLATOR_SAMPLES), budget(skill));
+    }
+  }
+
+  @Test public void staticKernelMatchesReference() {
+    for (final Skill skill : Skill.values()) {
+      Interpolator kernel = new Interpolator() {
+
+        @Override public float getInterpolation(float input) {
+          return Skill.ease(skill.getCurveId(), input);
+        }
+      };
+      assertWithin(ReferenceCurves.measure(skill, kernel, INTERPOLATOR_SAMPLES), budget(skill));
+    }
+  }
+
+  @Test public void interpolatorMatchesReference() {
+    for (Skill skill : Skill.values()) {
+      assertWithin(ReferenceCurves.measure(skill, skill.asInterpolator(), INTERPOLATOR_SAMPLES), budget(skill));
+    }
+  }
+
+  @Test public void methodMatchesReference() {
+    float[] durations = {1, 300, 1000, 2500};
+    for (Skill skill : Skill.values()) {
+      for (float duration : durations) {
+        assertWithin(ReferenceCurves.measure(skill, skill.getMethod(duration), 0, 1, METHOD_SAMPLES), budget(skill));
+        assertWithin(ReferenceCurves.measure(skill, skill.getMethod(duration), -40, 250, METHOD_SAMPLES),
+            budget(skill));
+      }
+    }
+  }
+
+  @Test public void sharedMethodMatchesReference() {
+    for (Skill skill : Skill.values()) {
+      Skill.EasingMethod method = skill.getSharedMethod(1000);
+      assertWithin(ReferenceCurves.measure(skill, method, 100, -100, METHOD_SAMPLES), budget(skill));
+    }
+  }
+
+  @Test public void reportFindsWorstFraction() {
+    Interpolator off = new Interpolator() {
+
+      @Override public float getInterpolation(float input) {
+        return input == .5f ? .6f : input;
+      }
+    };
+    ReferenceCurves.ErrorReport report = ReferenceCurves.measure(Skill.LINEAR, off, 11);
+    assertEquals(.1, report.getMaxError(), 1e-6);
+    assertEquals(.5f, report.getMaxErrorFraction(), 0);
+    assertTrue(report.isEndpointExact());
+    assertFalse(report.isWithin(.01));
+    assertTrue(report.isWithin(.2));
+  }
+
+  @Test public void reportFlagsInexactEndpoints() {
+    Interpolator off = new Interpolator() {
+
+      @Override public float getInterpolation(float input) {
+        return input == 1 ? .9999999f : input;
+      }
+    };
+    ReferenceCurves.ErrorReport report = ReferenceCurves.measure(Skill.LINEAR, off, 11);
+    assertFalse(report.isEndpointExact());
+    assertFalse(report.isWithin(1));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void measureRejectsTooFewSamples() {
+    ReferenceCurves.measure(Skill.LINEAR, Skill.LINEAR.asInterpolator(), 1);
+  }
+
+}
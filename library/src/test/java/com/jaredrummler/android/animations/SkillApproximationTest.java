@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that {@link Skill#easeApprox(float)} stays within the bound {@link Skill#getApproximationError()} states.
+ */
+public class SkillApproximationTest {
+
+  private static final int SAMPLES = 1000001;
+
+  @Test public void approximationIsWithinStatedError() {
+    for (Skill skill : Skill.values()) {
+      float bound = skill.getApproximationError();
+      float maxError = 0;
+      float worst = 0;
+      for (int i = 0; i < SAMPLES; i++) {
+        float t = (float) i / (SAMPLES - 1);
+        float error = Math.abs(skill.easeApprox(t) - skill.ease(t));
+        if (error > maxError) {
+          maxError = error;
+          worst = t;
+        }
+      }
+      assertTrue(skill + ": error " + maxError + " at " + worst + " exceeds " + bound, maxError <= bound);
+    }
+  }
+
+  @Test public void approximationEndpointsAreExact() {
+    for (Skill skill : Skill.values()) {
+      assertEquals(skill.name(), 0f, skill.easeApprox(0), 0);
+      assertEquals(skill.name(), 1f, skill.easeApprox(1), 0);
+    }
+  }
+
+  @Test public void approximateInterpolatorMatchesReference() {
+    for (Skill skill : Skill.values()) {
+      // The approximation error comes on top of the float rounding of the exact curve.
+      ReferenceCurves.ErrorReport report = ReferenceCurves.measure(skill, skill.asApproximateInterpolator(), 100001);
+      assertTrue(report.toString(), report.isWithin(skill.getApproximationError() + 1e-5));
+    }
+  }
+
+  @Test public void approximateMethodMatchesReference() {
+    for (Skill skill : Skill.values()) {
+      ReferenceCurves.ErrorReport report =
+          ReferenceCurves.measure(skill, skill.getApproximateMethod(1000), -40, 250, 10001);
+      assertTrue(report.toString(), report.isWithin(skill.getApproximationError() + 1e-5));
+    }
+  }
+
+  @Test public void exactCurvesAreNotApproximated() {
+    for (Skill skill : Skill.values()) {
+      if (skill.getApproximationError() != 0) {
+        continue;
+      }
+      for (int i = 0; i <= 1000; i++) {
+        float t = i / 1000f;
+        assertEquals(skill.name(), skill.ease(t), skill.easeApprox(t), 0);
+      }
+    }
+  }
+
+}
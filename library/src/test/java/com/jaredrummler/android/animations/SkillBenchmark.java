@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2017 Jared Rummler
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.jaredrummler.android.animations;
+
+import java.util.Locale;
+
+/**
+ * <p>A JVM microbenchmark for the {@link Skill} evaluation paths: single calls, batch evaluation, the static
+ * {@link Skill#ease(int, float)} kernel and the virtual {@link Skill.EasingMethod#calculate(float, float, float,
+ * float)} call it replaces. It is not a unit test, run its {@link #main(String[])} method from the IDE or with the test
+ * classpath:</p>
+ *
+ * <pre>
+ * java -cp &lt;test classpath&gt; com.jaredrummler.android.animations.SkillBenchmark
+ * </pre>
+ *
+ * <p>Each case is warmed up until the JIT compiled it, then timed over several rounds. The best round is reported in
+ * nanoseconds per eased value. The numbers are only comparable with each other, on the same machine.</p>
+ */
+public final class SkillBenchmark {
+
+  private static final int VALUES = 4096;
+  private static final int WARMUP_ROUNDS = 20;
+  private static final int ROUNDS = 10;
+  private static final int REPETITIONS = 200;
+
+  private static final float[] FRACTIONS = new float[VALUES];
+  private static final float[] OUT = new float[VALUES];
+
+  static {
+    for (int i = 0; i < VALUES; i++) {
+      FRACTIONS[i] = (float) i / (VALUES - 1);
+    }
+  }
+
+  /** The curves evaluated together from one call site. */
+  private static final Skill[][] MIXES = {
+      {Skill.QUAD_EASE_OUT},
+      {Skill.QUAD_EASE_OUT, Skill.BACK_EASE_OUT, Skill.BOUNCE_EASE_OUT, Skill.SINE_EASE_IN_OUT},
+      Skill.values()
+  };
+
+  /** Keeps the results alive, so the JIT can not drop the work. */
+  private static float sink;
+
+  public static void main(String[] args) {
+    for (Skill skill : Skill.values()) {
+      report(skill + " calculate()", calculateLoop(skill));
+      report(skill + " ease(float)", easeLoop(skill));
+      report(skill + " evaluate(float[])", evaluateBatch(skill));
+      report(skill + " ease(int, float)", kernelLoop(skill.getCurveId()));
+    }
+    // Several curves from the same call site, the case the static kernel is meant for. The virtual calculate() call
+    // is monomorphic with one curve, and megamorphic with more than two.
+    for (Skill[] skills : MIXES) {
+      String name = skills.length == 1 ? "1 curve" : skills.length + " curves";
+      report(name + " calculate()", mixedCalculateLoop(skills));
+      report(name + " ease(int, float)", mixedKernelLoop(skills));
+    }
+    System.out.println(sink == Float.MAX_VALUE ? "" : "done");
+  }
+
+  private static Case calculateLoop(Skill skill) {
+    final Skill.EasingMethod method = skill.getMethod(1);
+    return new Case() {
+
+      @Override float run() {
+        float[] fractions = FRACTIONS;
+        float[] out = OUT;
+        for (int i = 0; i < fractions.length; i++) {
+          out[i] = method.calculate(fractions[i], 0, 1, 1);
+        }
+        return out[out.length / 2];
+      }
+    };
+  }
+
+  private static Case easeLoop(final Skill skill) {
+    return new Case() {
+
+      @Override float run() {
+        float[] fractions = FRACTIONS;
+        float[] out = OUT;
+        for (int i = 0; i < fractions.length; i++) {
+          out[i] = skill.ease(fractions[i]);
+        }
+        return out[out.length / 2];
+      }
+    };
+  }
+
+  private static Case kernelLoop(final int curveId) {
+    return new Case() {
+
+      @Override float run() {
+        float[] fractions = FRACTIONS;
+        float[] out = OUT;
+        for (int i = 0; i < fractions.length; i++) {
+          out[i] = Skill.ease(curveId, fractions[i]);
+        }
+        return out[out.length / 2];
+      }
+    };
+  }
+
+  private static Case mixedCalculateLoop(Skill[] skills) {
+    final Skill.EasingMethod[] methods = new Skill.EasingMethod[skills.length];
+    for (int i = 0; i < skills.length; i++) {
+      methods[i] = skills[i].getMethod(1);
+    }
+    return new Case() {
+
+      @Override float run() {
+        float[] fractions = FRACTIONS;
+        float[] out = OUT;
+        for (int i = 0; i < fractions.length; i++) {
+          out[i] = methods[i % methods.length].calculate(fractions[i], 0, 1, 1);
+        }
+        return out[out.length / 2];
+      }
+    };
+  }
+
+  private static Case mixedKernelLoop(Skill[] skills) {
+    final int[] curveIds = new int[skills.length];
+    for (int i = 0; i < skills.length; i++) {
+      curveIds[i] = skills[i].getCurveId();
+    }
+    return new Case() {
+
+      @Override float run() {
+        float[] fractions = FRACTIONS;
+        float[] out = OUT;
+        for (int i = 0; i < fractions.length; i++) {
+          out[i] = Skill.ease(curveIds[i % curveIds.length], fractions[i]);
+        }
+        return out[out.length / 2];
+      }
+    };
+  }
+
+  private static Case evaluateBatch(final Skill skill) {
+    return new Case() {
+
+      @Override float run() {
+        skill.evaluate(FRACTIONS, OUT);
+        return OUT[OUT.length / 2];
+      }
+    };
+  }
+
+  private static void report(String name, Case benchmark) {
+    for (int i = 0; i < WARMUP_ROUNDS; i++) {
+      round(benchmark);
+    }
+    long best = Long.MAX_VALUE;
+    for (int i = 0; i < ROUNDS; i++) {
+      best = Math.min(best, round(benchmark));
+    }
+    double perValue = (double) best / ((long) REPETITIONS * VALUES);
+    System.out.println(String.format(Locale.US, "%-40s %8.3f ns/value", name, perValue));
+  }
+
+  private static long round(Case benchmark) {
+    long start = System.nanoTime();
+    for (int i = 0; i < REPETITIONS; i++) {
+      sink += benchmark.run();
+    }
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * One benchmarked operation over {@link #VALUES} fractions.
+   */
+  private abstract static class Case {
+
+    /**
+     * @return a value from the result, to keep it alive.
+     */
+    abstract float run();
+  }
+
+}